@@ -0,0 +1,53 @@
+package org.brewbite.bench;
+
+import org.brewbite.driver.DriverLease;
+import org.brewbite.driver.DriverPool;
+import org.brewbite.pages.LandingPage;
+import org.brewbite.server.StaticSiteServer;
+import org.openqa.selenium.WebDriver;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * One pooled browser per benchmark thread, opened on the landing page for
+ * the whole trial. The page under test is taken from {@code brewbite.bench.url},
+ * or else served in-process by the harness's {@link StaticSiteServer} from the
+ * production build of {@code selenium-testing-app} ({@code brewbite.site.dir}),
+ * so dev-server overhead does not skew the numbers.
+ */
+@State(Scope.Thread)
+public class BrowserState {
+
+    public static final String URL_PROPERTY = "brewbite.bench.url";
+
+    public String url;
+    public DriverLease lease;
+    public WebDriver driver;
+    public LandingPage page;
+
+    @Setup(Level.Trial)
+    public void openPage() {
+        url = System.getProperty(URL_PROPERTY);
+        if (url == null) {
+            StaticSiteServer server = StaticSiteServer.shared();
+            if (server == null) {
+                throw new IllegalStateException("No app build in " + StaticSiteServer.siteDir().toAbsolutePath()
+                        + " - run 'npm run build' in selenium-testing-app, or set " + URL_PROPERTY);
+            }
+            url = server.baseUrl();
+        }
+        lease = DriverPool.shared().lease();
+        driver = lease.driver();
+        page = new LandingPage(driver).open(url);
+    }
+
+    @TearDown(Level.Trial)
+    public void releaseBrowser() {
+        if (lease != null) {
+            lease.close();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.brewbite.bench;
+
+import org.brewbite.locate.Finder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+import static org.brewbite.locate.LandingPageLocators.NAVBAR;
+
+/**
+ * Cost of getting hold of an element: a raw {@code findElement}, a
+ * {@link Finder} lookup with its locator budget, and a cached page-object
+ * handle that only pays for the call made on it.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class LookupBenchmark {
+
+    @Benchmark
+    public WebElement findElementById(BrowserState state) {
+        return state.driver.findElement(By.id("navbar"));
+    }
+
+    @Benchmark
+    public WebElement finderWithLocator(BrowserState state) {
+        return new Finder(state.driver).find(NAVBAR);
+    }
+
+    // One round trip for the lookup plus one for isDisplayed(), as the original TC-02 did
+    @Benchmark
+    public boolean findThenIsDisplayed(BrowserState state) {
+        return state.driver.findElement(By.id("navbar")).isDisplayed();
+    }
+
+    // The handle is resolved once per page load, so only isDisplayed() goes over the wire
+    @Benchmark
+    public boolean pageObjectIsDisplayed(BrowserState state) {
+        return state.page.navigationBar().root().isDisplayed();
+    }
+}
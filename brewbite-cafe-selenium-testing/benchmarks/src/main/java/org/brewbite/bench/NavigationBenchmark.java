@@ -0,0 +1,48 @@
+package org.brewbite.bench;
+
+import org.brewbite.pages.PageState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What {@code navigateToPage()} costs between two tests: the original
+ * unconditional {@code driver.get()}, versus {@code LandingPage.prepare()}
+ * reusing an untouched page or resetting one that was scrolled. The two
+ * scroll benchmarks include the scroll itself and are meant to be compared
+ * with each other.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class NavigationBenchmark {
+
+    @Benchmark
+    public void fullReload(BrowserState state) {
+        state.driver.get(state.url);
+    }
+
+    @Benchmark
+    public PageState.Preparation prepareUntouched(BrowserState state) {
+        return state.page.prepare(state.url, false);
+    }
+
+    @Benchmark
+    public void scrollThenReload(BrowserState state) {
+        state.page.scrollTo(state.page.footer().root());
+        state.page.prepare(state.url, true);
+    }
+
+    @Benchmark
+    public PageState.Preparation scrollThenReset(BrowserState state) {
+        state.page.scrollTo(state.page.footer().root());
+        return state.page.prepare(state.url, false);
+    }
+}
@@ -0,0 +1,46 @@
+package org.brewbite.bench;
+
+import org.brewbite.dom.DomSnapshot;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.concurrent.TimeUnit;
+
+import static org.brewbite.locate.LandingPageLocators.MENU_CONTAINER;
+import static org.brewbite.locate.LandingPageLocators.MENU_ITEMS;
+
+/**
+ * TC-15's style checks (grid container plus a box-shadow on every menu
+ * card) done per call with {@code getCssValue} versus in one
+ * {@link DomSnapshot} round trip.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class StyleBenchmark {
+
+    @Benchmark
+    public void perCallGetCssValue(BrowserState state, Blackhole blackhole) {
+        blackhole.consume(state.driver.findElement(By.id("menu-container")).getCssValue("display"));
+        for (WebElement item : state.driver.findElements(By.className("menu-item"))) {
+            blackhole.consume(item.getCssValue("box-shadow"));
+        }
+    }
+
+    @Benchmark
+    public DomSnapshot batchedSnapshot(BrowserState state) {
+        return DomSnapshot.builder()
+                .select(MENU_CONTAINER).styles("display")
+                .select(MENU_ITEMS).styles("box-shadow")
+                .take(state.driver);
+    }
+}
@@ -0,0 +1,56 @@
+package org.brewbite.bench;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The suites' former {@code isElementInViewport()} check for the four page
+ * sections: one findElement plus one executeScript per section, versus a
+ * single script that checks all sections by id.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ViewportBenchmark {
+
+    private static final List<String> SECTION_IDS = List.of("home", "menu", "about", "contact");
+
+    // Verbatim from the original test classes
+    private static final String IN_VIEWPORT_SCRIPT =
+            "var elem = arguments[0];" +
+                    "var rect = elem.getBoundingClientRect();" +
+                    "return (rect.top >= 0 && rect.top <= window.innerHeight);";
+
+    private static final String ALL_IN_VIEWPORT_SCRIPT =
+            "return arguments[0].map(function (id) {" +
+                    "  var rect = document.getElementById(id).getBoundingClientRect();" +
+                    "  return (rect.top >= 0 && rect.top <= window.innerHeight);" +
+                    "});";
+
+    @Benchmark
+    public void perCallExecuteScript(BrowserState state, Blackhole blackhole) {
+        JavascriptExecutor js = (JavascriptExecutor) state.driver;
+        for (String id : SECTION_IDS) {
+            WebElement section = state.driver.findElement(By.id(id));
+            blackhole.consume(js.executeScript(IN_VIEWPORT_SCRIPT, section));
+        }
+    }
+
+    @Benchmark
+    public Object batchedExecuteScript(BrowserState state) {
+        return ((JavascriptExecutor) state.driver).executeScript(ALL_IN_VIEWPORT_SCRIPT, SECTION_IDS);
+    }
+}
@@ -0,0 +1,71 @@
+package org.brewbite.cases;
+
+import org.brewbite.events.EventStats;
+import org.brewbite.events.PageEvents;
+import org.brewbite.metrics.MetricsCollector;
+import org.brewbite.metrics.PageMetrics;
+import org.brewbite.pages.LandingPage;
+import org.brewbite.tabs.TabFanOut;
+import org.brewbite.wait.WaitEngine;
+import org.openqa.selenium.WebDriver;
+import java.util.List;
+
+/**
+ * What a {@link TestCase} body works with: the browser leased for the
+ * current worker thread and its landing page, already prepared for the case.
+ */
+public class CaseContext {
+
+    private final LandingPage page;
+    private final PageEvents events;
+    private final EventStats eventsBefore;
+    private PageMetrics metrics;
+
+    CaseContext(LandingPage page, PageMetrics metrics, PageEvents events, EventStats eventsBefore) {
+        this.page = page;
+        this.metrics = metrics;
+        this.events = events;
+        this.eventsBefore = eventsBefore;
+    }
+
+    public WebDriver driver() {
+        return page.driver();
+    }
+
+    public LandingPage page() {
+        return page;
+    }
+
+    public WaitEngine waits() {
+        return page.waits();
+    }
+
+    // Load metrics of the current document; reuses those the engine took right after a reload
+    public PageMetrics metrics() {
+        if (metrics == null) {
+            metrics = new MetricsCollector(driver()).collect();
+        }
+        return metrics;
+    }
+
+    // Console errors, exceptions and DOM mutations since the case started; all zero without page events
+    public EventStats events() {
+        return events == null ? EventStats.NONE : events.since(eventsBefore);
+    }
+
+    // The browser's event stream, e.g. to await a mutation instead of polling; null if not attached
+    public PageEvents pageEvents() {
+        return events;
+    }
+
+    /**
+     * Runs independent sub-checks side by side in up to {@code brewbite.tabs}
+     * extra windows of this case's browser (see {@link TabFanOut}) and
+     * returns their details in order. The case's own page is not touched.
+     */
+    public List<String> fanOut(TabFanOut.Check... checks) throws Exception {
+        try (TabFanOut tabs = TabFanOut.open(driver(), Math.min(checks.length, TabFanOut.maxTabs()))) {
+            return tabs.runAll(List.of(checks));
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package org.brewbite.cases;
+
+import org.brewbite.config.Environment;
+import org.brewbite.config.HarnessConfig;
+import org.brewbite.driver.DriverLease;
+import org.brewbite.driver.DriverPool;
+import org.brewbite.driver.WorkerDrivers;
+import org.brewbite.events.EventStats;
+import org.brewbite.events.PageEvents;
+import org.brewbite.metrics.MetricsCollector;
+import org.brewbite.metrics.PageMetrics;
+import org.brewbite.network.AssetCache;
+import org.brewbite.network.NetworkStats;
+import org.brewbite.network.NetworkTap;
+import org.brewbite.pages.LandingPage;
+import org.brewbite.pages.PageState;
+import org.brewbite.report.FailureCapture;
+import org.brewbite.report.TestRecorder;
+import org.brewbite.report.TestTiming;
+import org.brewbite.schedule.CaseScheduler;
+import org.brewbite.schedule.TestHistory;
+import org.brewbite.wait.WaitLog;
+import org.openqa.selenium.WebDriverException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs {@link TestCase}s for every runner. The engine owns everything around
+ * a case body: the per-thread browser from the shared {@link DriverPool},
+ * page preparation, wait and timing records and console reporting. The
+ * JUnit 5, TestNG and plain-Java classes only adapt it to their framework.
+ *
+ * Each engine tests one {@link Environment}: its base URL, and the window
+ * size applied to every browser the engine leases. {@link CaseMatrix} runs
+ * one engine per configured environment.
+ *
+ * Whenever preparing a case reloads the page, the engine also records the
+ * load's {@link PageMetrics} with the case timing ({@code brewbite.metrics=false}
+ * turns this off).
+ *
+ * The {@link PageEvents} the browser pushed out while a case ran - console
+ * errors, exceptions and DOM mutations - are recorded with its timing too,
+ * and cases with more DOM commits than {@code brewbite.events.maxCommits}
+ * are reported for render churn without failing.
+ *
+ * {@link #runAll} runs cases on platform or virtual threads (see
+ * {@link CaseThreads}); either way no more than {@code brewbite.workers}
+ * browsers are in use at once.
+ *
+ * Every result goes into the {@link TestHistory}, and {@link #schedule}
+ * uses it to start recently failed and long cases first.
+ */
+public class CaseEngine {
+
+    public static final String METRICS_KEY = "brewbite.metrics";
+
+    private static final boolean COLLECT_METRICS = Boolean.parseBoolean(HarnessConfig.shared().get(METRICS_KEY, "true"));
+    private static final CaseScheduler SCHEDULER = CaseScheduler.fromConfig(HarnessConfig.shared());
+
+    private final String suite;
+    private final Environment environment;
+    private final WorkerDrivers drivers;
+    private ExecutorService workers;
+    // Page objects of the sessions handed between virtual-thread tasks, which cannot keep them per thread
+    private final Map<DriverLease, LandingPage> pages = new ConcurrentHashMap<>();
+    private final LongAdder passed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public CaseEngine(String suite, Environment environment, WorkerDrivers drivers) {
+        // Results of a matrix run are reported as e.g. "BrewBiteCafeTest@prod-mobile"
+        this.suite = environment.isDefault() ? suite : suite + "@" + environment.getName();
+        this.environment = environment;
+        this.drivers = drivers;
+    }
+
+    // Engine for one runner against the default environment, leasing browsers from the JVM-wide pool
+    public static CaseEngine forSuite(String suite) {
+        return forSuite(suite, Environment.defaultEnvironment());
+    }
+
+    public static CaseEngine forSuite(String suite, Environment environment) {
+        return new CaseEngine(suite, environment, new WorkerDrivers(DriverPool.shared(), environment::apply));
+    }
+
+    public Environment getEnvironment() {
+        return environment;
+    }
+
+    // The browsers this engine's worker threads hold, e.g. for soak runs to sample or recycle between iterations
+    public WorkerDrivers drivers() {
+        return drivers;
+    }
+
+    // The cases in the order they should start, from this environment's history (see CaseScheduler)
+    public List<TestCase> schedule(List<TestCase> cases) {
+        return SCHEDULER.order(suite, cases, this::historyKey, WorkerDrivers.workerCount());
+    }
+
+    // Durations differ per environment, e.g. "TC-03@prod-mobile"
+    private String historyKey(TestCase testCase) {
+        return environment.isDefault() ? testCase.getId() : testCase.getId() + "@" + environment.getName();
+    }
+
+    /**
+     * Runs one case on the calling thread. Failures are captured in the
+     * result rather than thrown; adapters call {@link CaseResult#rethrow()}.
+     */
+    public CaseResult run(TestCase testCase) {
+        return run(testCase, () -> LandingPage.forDriver(drivers.get()));
+    }
+
+    private CaseResult run(TestCase testCase, Supplier<LandingPage> pageSupplier) {
+        WaitLog.current().clear();
+        TestRecorder.start(suite, testCase.getName());
+        System.out.println("Executing " + testCase + (environment.isDefault() ? "" : " on " + environment));
+
+        LandingPage page = null;
+        NetworkTap tap = null;
+        NetworkStats networkBefore = null;
+        PageEvents events = null;
+        EventStats eventsBefore = null;
+        String detail = null;
+        Throwable failure = null;
+        try {
+            page = pageSupplier.get();
+            tap = NetworkTap.of(page.driver());
+            networkBefore = tap == null ? null : tap.snapshot();
+            events = PageEvents.of(page.driver());
+            eventsBefore = events == null ? null : events.snapshot();
+            PageState.Preparation preparation = page.prepare(environment.getBaseUrl(), testCase.isFreshPage());
+            PageMetrics metrics = preparation == PageState.Preparation.RELOADED ? loadMetrics(page) : null;
+            detail = testCase.getBody().run(new CaseContext(page, metrics, events, eventsBefore));
+        } catch (Exception | AssertionError e) {
+            failure = e;
+        }
+        if (networkBefore != null) {
+            TestRecorder.recordNetwork(tap.snapshot().minus(networkBefore));
+        }
+        EventStats eventsDuring = eventsBefore == null ? EventStats.NONE : events.since(eventsBefore);
+        TestRecorder.recordEvents(eventsDuring);
+        TestTiming timing = TestRecorder.finish(failure == null);
+        TestHistory.shared().record(historyKey(testCase), timing.getWallMillis(), failure == null);
+        (failure == null ? passed : failed).increment();
+        FailureCapture capture = failure == null || page == null ? null : FailureCapture.shared();
+        String evidence = capture == null ? null : capture.capture(page.driver(), historyKey(testCase), timing);
+
+        // One println per case keeps the lines of parallel cases together
+        System.out.println((environment.isDefault() ? "" : "[" + environment.getName() + "] ")
+                + testCase.getId() + (failure == null ? ": PASSED - " + detail : ": FAILED - " + failure.getMessage())
+                + "\nWait time: " + WaitLog.current().summary()
+                + (page == null ? "" : " (page " + page.state().lastPreparation() + ")")
+                + "\nTiming: " + timing
+                + (timing.isRenderChurn() ? "\nRender churn: " + eventsDuring.getCommits() + " DOM commits (limit "
+                        + PageEvents.maxCommits() + "), most at " + eventsDuring.topElements() : "")
+                + (eventsDuring.getMessages().isEmpty() ? "" : "\nConsole: " + String.join(" | ", eventsDuring.getMessages()))
+                + (evidence == null ? "" : "\nCapture: " + evidence + ".png/.html/.console.log")
+                + "\n");
+        return new CaseResult(testCase, detail, failure, timing);
+    }
+
+    // Metrics of the load prepare() just did, charged to the current case; never fails the case
+    private static PageMetrics loadMetrics(LandingPage page) {
+        if (!COLLECT_METRICS) {
+            return null;
+        }
+        try {
+            PageMetrics metrics = new MetricsCollector(page.driver()).collect();
+            TestRecorder.recordPageMetrics(metrics);
+            return metrics;
+        } catch (WebDriverException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Runs the cases in {@link #schedule} order and returns the results in
+     * the order the cases were given.
+     *
+     * On platform threads, {@code brewbite.workers} threads each hold their
+     * own browser. On virtual threads, every case is its own task and
+     * borrows a browser for its length; tasks are only started once a
+     * browser is free, so the pool caps concurrency and start order is kept.
+     * Either way the browsers, and their pages, are kept for the next call
+     * until {@link #close()}.
+     */
+    public List<CaseResult> runAll(List<TestCase> cases) {
+        boolean virtual = CaseThreads.useVirtual();
+        ExecutorService tasks = virtual ? CaseThreads.perTaskExecutor() : workers();
+        try {
+            pages.keySet().removeIf(DriverLease::isReleased);
+            // The platform workers' queue is FIFO, so submission order is start order there too
+            Map<TestCase, Future<CaseResult>> futures = new HashMap<>();
+            for (TestCase testCase : schedule(cases)) {
+                futures.put(testCase, virtual ? submitWithBrowser(tasks, testCase) : tasks.submit(() -> run(testCase)));
+            }
+            List<CaseResult> results = new ArrayList<>();
+            for (TestCase testCase : cases) {
+                results.add(futures.get(testCase).get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running test cases", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Test case execution failed", e.getCause());
+        } finally {
+            if (virtual) {
+                tasks.shutdown();
+            }
+        }
+    }
+
+    // Waits for a free browser on the calling thread, then runs the case on a new task that hands it back
+    private Future<CaseResult> submitWithBrowser(ExecutorService tasks, TestCase testCase) throws InterruptedException {
+        DriverLease lease;
+        try {
+            lease = drivers.acquire();
+        } catch (RuntimeException e) {
+            // Reported as the case's failure, as on a platform worker
+            return tasks.submit(() -> run(testCase, () -> {
+                throw e;
+            }));
+        }
+        return tasks.submit(() -> {
+            try {
+                return run(testCase, () -> pages.computeIfAbsent(lease, key -> new LandingPage(key.driver())));
+            } finally {
+                drivers.handBack(lease);
+            }
+        });
+    }
+
+    private synchronized ExecutorService workers() {
+        if (workers == null) {
+            AtomicInteger threads = new AtomicInteger();
+            // Daemon threads, so a runner that fails before close() still exits
+            workers = Executors.newFixedThreadPool(WorkerDrivers.workerCount(), task -> {
+                Thread thread = new Thread(task, "case-worker-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return workers;
+    }
+
+    // Hands every browser back to the pool once the runner is done
+    public void close() {
+        synchronized (this) {
+            if (workers != null) {
+                workers.shutdown();
+                workers = null;
+            }
+        }
+        drivers.releaseAll();
+        pages.clear();
+        System.out.println("Cases: " + passed.sum() + " passed, " + failed.sum() + " failed");
+        System.out.println("Driver pool: " + DriverPool.shared().stats());
+        if (AssetCache.shared().entries() > 0) {
+            System.out.println("Asset cache: " + AssetCache.shared());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.brewbite.cases;
+
+import org.brewbite.config.Environment;
+import org.brewbite.config.HarnessConfig;
+import org.brewbite.driver.DriverPool;
+import org.brewbite.driver.WorkerDrivers;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The same suite fanned out over every {@link Environment} in the harness
+ * config, one {@link CaseEngine} per environment. {@link #runAll} runs the
+ * environments side by side, each on its own {@code brewbite.workers}
+ * threads, and returns the results keyed by environment.
+ */
+public class CaseMatrix {
+
+    private final Map<Environment, CaseEngine> engines;
+
+    private CaseMatrix(Map<Environment, CaseEngine> engines) {
+        this.engines = engines;
+    }
+
+    public static CaseMatrix forSuite(String suite) {
+        List<Environment> environments = Environment.fromConfig(HarnessConfig.shared());
+        // Every environment runs its own workers at the same time, so give each one a full set of browsers
+        DriverPool.requireSessions(environments.size() * WorkerDrivers.workerCount());
+        Map<Environment, CaseEngine> engines = new LinkedHashMap<>();
+        for (Environment environment : environments) {
+            engines.put(environment, CaseEngine.forSuite(suite, environment));
+        }
+        if (environments.size() > 1) {
+            System.out.println("Environment matrix: " + environments);
+        }
+        return new CaseMatrix(engines);
+    }
+
+    public List<Environment> environments() {
+        return new ArrayList<>(engines.keySet());
+    }
+
+    public CaseEngine engine(Environment environment) {
+        CaseEngine engine = engines.get(environment);
+        if (engine == null) {
+            throw new IllegalArgumentException("Environment " + environment.getName() + " is not part of this matrix");
+        }
+        return engine;
+    }
+
+    /**
+     * Runs all cases in every environment at once and returns each
+     * environment's results in case order.
+     */
+    public Map<Environment, List<CaseResult>> runAll(List<TestCase> cases) {
+        if (engines.size() == 1) {
+            Map.Entry<Environment, CaseEngine> only = engines.entrySet().iterator().next();
+            return Collections.singletonMap(only.getKey(), only.getValue().runAll(cases));
+        }
+
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService environments = Executors.newFixedThreadPool(engines.size(),
+                task -> new Thread(task, "environment-" + threads.incrementAndGet()));
+        try {
+            Map<Environment, Future<List<CaseResult>>> futures = new LinkedHashMap<>();
+            for (Map.Entry<Environment, CaseEngine> entry : engines.entrySet()) {
+                CaseEngine engine = entry.getValue();
+                futures.put(entry.getKey(), environments.submit(() -> engine.runAll(cases)));
+            }
+            Map<Environment, List<CaseResult>> results = new LinkedHashMap<>();
+            for (Map.Entry<Environment, Future<List<CaseResult>>> entry : futures.entrySet()) {
+                results.put(entry.getKey(), entry.getValue().get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the environment matrix", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Environment matrix run failed", e.getCause());
+        } finally {
+            environments.shutdown();
+        }
+    }
+
+    public void close() {
+        for (CaseEngine engine : engines.values()) {
+            engine.close();
+        }
+    }
+}
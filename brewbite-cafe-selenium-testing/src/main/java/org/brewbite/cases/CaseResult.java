@@ -0,0 +1,59 @@
+package org.brewbite.cases;
+
+import org.brewbite.report.TestTiming;
+
+/**
+ * Outcome of running one {@link TestCase}: pass/fail with the detail or
+ * the failure, and where the time went.
+ */
+public class CaseResult {
+
+    private final TestCase testCase;
+    private final String detail;
+    private final Throwable failure;
+    private final TestTiming timing;
+
+    CaseResult(TestCase testCase, String detail, Throwable failure, TestTiming timing) {
+        this.testCase = testCase;
+        this.detail = detail;
+        this.failure = failure;
+        this.timing = timing;
+    }
+
+    public TestCase getTestCase() {
+        return testCase;
+    }
+
+    public boolean isPassed() {
+        return failure == null;
+    }
+
+    // Detail returned by the body, or null if the case failed
+    public String getDetail() {
+        return detail;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public TestTiming getTiming() {
+        return timing;
+    }
+
+    /**
+     * Rethrows the failure, if any, so a framework adapter reports the case
+     * as failed with the original assertion message.
+     */
+    public void rethrow() {
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure != null) {
+            throw new IllegalStateException(testCase.getId() + " failed", failure);
+        }
+    }
+}
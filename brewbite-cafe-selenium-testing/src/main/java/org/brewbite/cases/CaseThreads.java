@@ -0,0 +1,86 @@
+package org.brewbite.cases;
+
+import org.brewbite.config.HarnessConfig;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Which threads {@link CaseEngine#runAll} runs cases on, from
+ * {@code brewbite.threads}:
+ * <ul>
+ *   <li>{@code platform} - {@code brewbite.workers} long-lived threads, each
+ *       holding its own browser</li>
+ *   <li>{@code virtual} - one virtual thread per case, taking a browser from
+ *       the engine's workers for the length of the case</li>
+ *   <li>{@code auto} (default) - virtual where the JVM has them (Java 21+),
+ *       platform otherwise</li>
+ * </ul>
+ * {@code org.brewbite.load.LoadRun} runs its virtual users by the same
+ * setting. The build targets Java 11, so virtual threads are looked up
+ * reflectively; the {@code java21} Maven profile compiles the same sources
+ * for Java 21.
+ */
+public final class CaseThreads {
+
+    public static final String MODE_KEY = "brewbite.threads";
+
+    private static final ThreadFactory VIRTUAL = virtualThreadFactory("case-");
+
+    private CaseThreads() {
+    }
+
+    public static boolean useVirtual() {
+        String mode = HarnessConfig.shared().get(MODE_KEY, "auto").toLowerCase(Locale.ROOT);
+        switch (mode) {
+            case "platform":
+                return false;
+            case "virtual":
+                if (VIRTUAL == null) {
+                    throw new IllegalStateException(MODE_KEY + "=virtual needs Java 21 or later, running on "
+                            + Runtime.version());
+                }
+                return true;
+            case "auto":
+                return VIRTUAL != null;
+            default:
+                throw new IllegalArgumentException(MODE_KEY + " must be platform, virtual or auto, got '" + mode + "'");
+        }
+    }
+
+    // A new virtual thread for every task
+    static ExecutorService perTaskExecutor() {
+        return perTaskExecutor(VIRTUAL);
+    }
+
+    // A new virtual thread for every task, named namePrefix followed by a counter
+    public static ExecutorService perTaskExecutor(String namePrefix) {
+        return perTaskExecutor(virtualThreadFactory(namePrefix));
+    }
+
+    private static ExecutorService perTaskExecutor(ThreadFactory factory) {
+        if (factory == null) {
+            throw new IllegalStateException("Virtual threads need Java 21 or later, running on " + Runtime.version());
+        }
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Virtual threads are not available", e);
+        }
+    }
+
+    // Thread.ofVirtual().name(namePrefix, 1).factory(), or null before Java 21
+    private static ThreadFactory virtualThreadFactory(String namePrefix) {
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            Object virtual = Thread.class.getMethod("ofVirtual").invoke(null);
+            virtual = builder.getMethod("name", String.class, long.class).invoke(virtual, namePrefix, 1L);
+            return (ThreadFactory) builder.getMethod("factory").invoke(virtual);
+        } catch (ReflectiveOperationException e) {
+            // Before Java 21, or 19/20 without --enable-preview
+            return null;
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package org.brewbite.cases;
+
+import org.brewbite.config.HarnessConfig;
+import org.brewbite.dom.DomSnapshot;
+import org.brewbite.dom.ElementFacts;
+import org.brewbite.events.PageEvents;
+import org.brewbite.impact.ImpactSelector;
+import org.brewbite.metrics.PageMetrics;
+import org.brewbite.metrics.PerformanceBudget;
+import org.brewbite.pages.LandingPage;
+import org.brewbite.tabs.TabFanOut;
+import org.brewbite.wait.WaitEngine;
+import org.openqa.selenium.WebElement;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.brewbite.cases.Verify.*;
+import static org.brewbite.locate.LandingPageLocators.*;
+
+/**
+ * TC-01 … TC-18 for the BrewBite Cafe landing page, shared by the JUnit 5,
+ * TestNG and plain-Java runners.
+ */
+public final class LandingPageCases {
+
+    private LandingPageCases() {
+    }
+
+    public static List<TestCase> all() {
+        return List.of(
+                navigationBarLinks(),
+                navigationBarVisibility(),
+                navigationScrolling(),
+                heroSection(),
+                menuItemsCount(),
+                menuItemsContent(),
+                menuItemsImages(),
+                aboutUsWordCount(),
+                contactEmail(),
+                contactPhone(),
+                footerCopyright(),
+                reserveTableButton(),
+                navigationBackgroundColor(),
+                heroBackground(),
+                menuGridLayout(),
+                headingFontConsistency(),
+                reserveButtonHoverEffect(),
+                pageLoadBudget());
+    }
+
+    public static List<TestCase> inCategory(TestCase.Category category) {
+        return inCategory(all(), category);
+    }
+
+    // The cases affected by the changes since brewbite.impact.base, or all of them if that is not set
+    public static List<TestCase> selected() {
+        return ImpactSelector.shared().select(all());
+    }
+
+    public static List<TestCase> selected(TestCase.Category category) {
+        return inCategory(selected(), category);
+    }
+
+    private static List<TestCase> inCategory(List<TestCase> cases, TestCase.Category category) {
+        return cases.stream()
+                .filter(testCase -> testCase.getCategory() == category)
+                .collect(Collectors.toList());
+    }
+
+    // TC-01: Verify Navigation Bar Contains All Required Links
+    static TestCase navigationBarLinks() {
+        return TestCase.of("TC-01", "testNavigationBarLinks", "Verify Navigation Bar Contains All Required Links", context -> {
+            DomSnapshot snapshot = DomSnapshot.builder()
+                    .select(NAVBAR).displayed()
+                    .select(NAV_HOME).displayed()
+                    .select(NAV_MENU).displayed()
+                    .select(NAV_ABOUT).displayed()
+                    .select(NAV_CONTACT).displayed()
+                    .take(context.driver());
+
+            assertTrue(snapshot.first(NAVBAR).isDisplayed(), "Navigation bar should be visible");
+            assertTrue(snapshot.first(NAV_HOME).isDisplayed(), "Home link should be present");
+            assertTrue(snapshot.first(NAV_MENU).isDisplayed(), "Menu link should be present");
+            assertTrue(snapshot.first(NAV_ABOUT).isDisplayed(), "About Us link should be present");
+            assertTrue(snapshot.first(NAV_CONTACT).isDisplayed(), "Contact link should be present");
+
+            return "All navigation links are present";
+        }).touching(NAVBAR, NAV_HOME, NAV_MENU, NAV_ABOUT, NAV_CONTACT);
+    }
+
+    // TC-02: Verify Navigation Bar is Visible
+    static TestCase navigationBarVisibility() {
+        return TestCase.of("TC-02", "testNavigationBarVisibility", "Verify Navigation Bar is Visible", context -> {
+            WebElement navbar = context.page().navigationBar().root();
+            assertTrue(navbar.isDisplayed(), "Navigation bar should be visible");
+
+            return "Navigation bar is visible";
+        }).touching(NAVBAR);
+    }
+
+    // TC-03: Verify Navigation Links Scroll to Correct Sections
+    static TestCase navigationScrolling() {
+        return TestCase.of("TC-03", "testNavigationScrolling", "Verify Navigation Links Scroll to Correct Sections", context -> {
+            // Each link gets its own window; all three are clicked before the first settle wait,
+            // so the smooth scrolls run in the browser at the same time
+            List<String> reached = context.fanOut(
+                    scrollsTo("Menu", page -> page.navigationBar().menuLink(), page -> page.menu().root()),
+                    scrollsTo("About", page -> page.navigationBar().aboutLink(), page -> page.about().root()),
+                    scrollsTo("Contact", page -> page.navigationBar().contactLink(), page -> page.contact().root()));
+
+            return "Navigation links scroll to correct sections (" + String.join(", ", reached) + ")";
+        }).inCategory(TestCase.Category.INTERACTION)
+                .touching(NAV_MENU, NAV_ABOUT, NAV_CONTACT, MENU_SECTION, ABOUT_SECTION, CONTACT_SECTION);
+    }
+
+    // Clicks a navigation link in a fan-out window and checks that the scroll ends with its section at the top
+    private static TabFanOut.Check scrollsTo(String name, Function<LandingPage, WebElement> link,
+                                             Function<LandingPage, WebElement> section) {
+        return tab -> {
+            // Separate blocks, so the other windows can click while this one's scroll is under way
+            tab.run(page -> {
+                link.apply(page).click();
+                return null;
+            });
+            boolean atTop = tab.run(page -> page.waits().untilAtTop(section.apply(page), page.navigationBar().root()));
+            assertTrue(atTop, name + " section should be scrolled to the top");
+            return name;
+        };
+    }
+
+    // TC-04: Verify Hero Section Contains Café Name and Tagline
+    static TestCase heroSection() {
+        return TestCase.of("TC-04", "testHeroSection", "Verify Hero Section Contains Café Name and Tagline", context -> {
+            DomSnapshot snapshot = DomSnapshot.builder()
+                    .select(HERO_SECTION).displayed()
+                    .select(CAFE_NAME).text()
+                    .select(TAGLINE).text()
+                    .take(context.driver());
+
+            assertTrue(snapshot.first(HERO_SECTION).isDisplayed(), "Hero section should be visible");
+            assertTrue(snapshot.first(CAFE_NAME).getText().contains("Brew & Bite Café"),
+                    "Café name should be present");
+            assertFalse(snapshot.first(TAGLINE).getText().isEmpty(), "Tagline should be present");
+
+            return "Hero section contains café name and tagline";
+        }).touching(HERO_SECTION, CAFE_NAME, TAGLINE);
+    }
+
+    // TC-05: Verify Minimum 4 Menu Items are Displayed
+    static TestCase menuItemsCount() {
+        return TestCase.of("TC-05", "testMenuItemsCount", "Verify Minimum 4 Menu Items are Displayed", context -> {
+            context.page().scrollTo(context.page().menu().root());
+
+            List<WebElement> menuItems = context.page().menu().items();
+            assertTrue(menuItems.size() >= 4,
+                    "At least 4 menu items should be displayed. Found: " + menuItems.size());
+
+            return "Found " + menuItems.size() + " menu items";
+        }).touching(MENU_SECTION, MENU_ITEMS);
+    }
+
+    // TC-06: Verify Each Menu Item Has Name and Price
+    static TestCase menuItemsContent() {
+        return TestCase.of("TC-06", "testMenuItemsContent", "Verify Each Menu Item Has Name and Price", context -> {
+            context.page().scrollTo(context.page().menu().root());
+
+            DomSnapshot snapshot = DomSnapshot.builder()
+                    .select(MENU_ITEMS).children(MENU_ITEM_NAME, MENU_ITEM_PRICE)
+                    .take(context.driver());
+
+            for (ElementFacts item : snapshot.all(MENU_ITEMS)) {
+                ElementFacts name = item.child(MENU_ITEM_NAME);
+                ElementFacts price = item.child(MENU_ITEM_PRICE);
+
+                assertFalse(name == null || name.getText().isEmpty(), "Menu item should have a name");
+                assertFalse(price == null || price.getText().isEmpty(), "Menu item should have a price");
+            }
+
+            return "All menu items have name and price";
+        }).touching(MENU_ITEMS, MENU_ITEM_NAME, MENU_ITEM_PRICE);
+    }
+
+    // TC-07: Verify Each Menu Item Has an Image
+    static TestCase menuItemsImages() {
+        return TestCase.of("TC-07", "testMenuItemsImages", "Verify Each Menu Item Has an Image", context -> {
+            context.page().scrollTo(context.page().menu().root());
+
+            DomSnapshot snapshot = DomSnapshot.builder()
+                    .select(MENU_ITEMS).children(MENU_ITEM_IMAGE)
+                    .take(context.driver());
+
+            for (ElementFacts item : snapshot.all(MENU_ITEMS)) {
+                ElementFacts image = item.child(MENU_ITEM_IMAGE);
+                assertTrue(image != null && image.isDisplayed(), "Each menu item should have an image");
+            }
+
+            return "All menu items have images";
+        }).touching(MENU_ITEMS, MENU_ITEM_IMAGE);
+    }
+
+    // TC-08: Verify About Us Section Contains Minimum 50 Words
+    static TestCase aboutUsWordCount() {
+        return TestCase.of("TC-08", "testAboutUsWordCount", "Verify About Us Section Contains Minimum 50 Words", context -> {
+            context.page().scrollTo(context.page().about().root());
+
+            WebElement aboutText = context.page().about().text();
+            String text = aboutText.getText();
+            int wordCount = text.split("\\s+").length;
+
+            assertTrue(wordCount >= 50,
+                    "About Us section should contain at least 50 words. Found: " + wordCount);
+
+            return "About Us section contains " + wordCount + " words";
+        }).touching(ABOUT_SECTION, ABOUT_TEXT);
+    }
+
+    // TC-09: Verify Contact Section Displays Email Address
+    static TestCase contactEmail() {
+        return TestCase.of("TC-09", "testContactEmail", "Verify Contact Section Displays Email Address", context -> {
+            context.page().scrollTo(context.page().contact().root());
+
+            WebElement email = context.page().contact().email();
+            String emailText = email.getText();
+
+            assertTrue(emailText.contains("@"),
+                    "Email address should contain @ symbol");
+            assertFalse(emailText.isEmpty(), "Email address should not be empty");
+
+            return "Contact section displays email: " + emailText;
+        }).touching(CONTACT_SECTION, CONTACT_EMAIL);
+    }
+
+    // TC-10: Verify Contact Section Displays Phone Number
+    static TestCase contactPhone() {
+        return TestCase.of("TC-10", "testContactPhone", "Verify Contact Section Displays Phone Number", context -> {
+            context.page().scrollTo(context.page().contact().root());
+
+            WebElement phone = context.page().contact().phone();
+            String phoneText = phone.getText();
+
+            assertFalse(phoneText.isEmpty(), "Phone number should not be empty");
+
+            return "Contact section displays phone: " + phoneText;
+        }).touching(CONTACT_SECTION, CONTACT_PHONE);
+    }
+
+    // TC-11: Verify Footer Contains Copyright Text
+    static TestCase footerCopyright() {
+        return TestCase.of("TC-11", "testFooterCopyright", "Verify Footer Contains Copyright Text", context -> {
+            context.page().scrollTo(context.page().footer().root());
+
+            WebElement footer = context.page().footer().root();
+            WebElement copyright = context.page().footer().copyrightText();
+
+            assertTrue(footer.isDisplayed(), "Footer should be visible");
+            String copyrightText = copyright.getText();
+            assertTrue(copyrightText.contains("©") ||
+                            copyrightText.toLowerCase().contains("copyright"),
+                    "Footer should contain copyright text");
+
+            return "Footer contains copyright text";
+        }).touching(FOOTER, COPYRIGHT_TEXT);
+    }
+
+    // TC-12: Verify Reserve Table Button Exists in Hero Section
+    static TestCase reserveTableButton() {
+        return TestCase.of("TC-12", "testReserveTableButton", "Verify Reserve Table Button Exists in Hero Section", context -> {
+            DomSnapshot snapshot = DomSnapshot.builder()
+                    .select(RESERVE_BUTTON).displayed().enabled()
+                    .take(context.driver());
+            ElementFacts reserveButton = snapshot.first(RESERVE_BUTTON);
+
+            assertTrue(reserveButton.isDisplayed(),
+                    "Reserve Table button should be visible");
+            assertTrue(reserveButton.isEnabled(),
+                    "Reserve Table button should be clickable");
+
+            return "Reserve Table button exists and is clickable";
+        }).touching(RESERVE_BUTTON);
+    }
+
+    // TC-13: Verify Navigation Bar Has Distinct Background Color
+    static TestCase navigationBackgroundColor() {
+        return TestCase.of("TC-13", "testNavigationBackgroundColor", "Verify Navigation Bar Has Distinct Background Color", context -> {
+            DomSnapshot snapshot = DomSnapshot.builder()
+                    .select(NAVBAR).styles("background-color")
+                    .select(BODY).styles("background-color")
+                    .take(context.driver());
+            String navBgColor = snapshot.first(NAVBAR).getStyle("background-color");
+            String bodyBgColor = snapshot.first(BODY).getStyle("background-color");
+
+            assertNotEquals(navBgColor, bodyBgColor,
+                    "Navigation bar background should be different from page background");
+
+            return "Navigation bar has distinct background color";
+        }).inCategory(TestCase.Category.STYLE)
+                .touching(NAVBAR); // The body colour lives outside the sections, where any change runs every case
+    }
+
+    // TC-14: Verify Hero Section Has Background Color or Image
+    static TestCase heroBackground() {
+        return TestCase.of("TC-14", "testHeroBackground", "Verify Hero Section Has Background Color or Image", context -> {
+            ElementFacts heroSection = DomSnapshot.builder()
+                    .select(HERO_SECTION).styles("background-color", "background-image")
+                    .take(context.driver())
+                    .first(HERO_SECTION);
+            String bgColor = heroSection.getStyle("background-color");
+            String bgImage = heroSection.getStyle("background-image");
+
+            boolean hasBackground = !bgColor.equals("rgba(0, 0, 0, 0)") ||
+                    !bgImage.equals("none");
+
+            assertTrue(hasBackground,
+                    "Hero section should have background color or image");
+
+            return "Hero section has background";
+        }).inCategory(TestCase.Category.STYLE)
+                .touching(HERO_SECTION);
+    }
+
+    // TC-15: Verify Menu Items are Displayed in Grid/Card Layout
+    static TestCase menuGridLayout() {
+        return TestCase.of("TC-15", "testMenuGridLayout", "Verify Menu Items are Displayed in Grid/Card Layout", context -> {
+            context.page().scrollTo(context.page().menu().root());
+
+            DomSnapshot snapshot = DomSnapshot.builder()
+                    .select(MENU_CONTAINER).styles("display")
+                    .select(MENU_ITEMS).styles("box-shadow")
+                    .take(context.driver());
+            String displayValue = snapshot.first(MENU_CONTAINER).getStyle("display");
+
+            assertTrue(displayValue.contains("grid"),
+                    "Menu should use grid layout");
+
+            for (ElementFacts item : snapshot.all(MENU_ITEMS)) {
+                String boxShadow = item.getStyle("box-shadow");
+                assertFalse(boxShadow.equals("none"),
+                        "Menu items should have card-like styling");
+            }
+
+            return "Menu items displayed in grid/card layout";
+        }).inCategory(TestCase.Category.STYLE)
+                .touching(MENU_SECTION, MENU_CONTAINER, MENU_ITEMS);
+    }
+
+    // TC-16: Verify Consistent Font Family for All Headings
+    static TestCase headingFontConsistency() {
+        return TestCase.of("TC-16", "testHeadingFontConsistency", "Verify Consistent Font Family for All Headings", context -> {
+            DomSnapshot snapshot = DomSnapshot.builder()
+                    .select(H1).styles("font-family").optional()
+                    .select(H2).styles("font-family").optional()
+                    .take(context.driver());
+            List<ElementFacts> h1Elements = snapshot.all(H1);
+            List<ElementFacts> h2Elements = snapshot.all(H2);
+
+            String firstFont = null;
+
+            if (!h1Elements.isEmpty()) {
+                firstFont = h1Elements.get(0).getStyle("font-family");
+            }
+
+            for (ElementFacts h2 : h2Elements) {
+                String font = h2.getStyle("font-family");
+                if (firstFont == null) firstFont = font;
+                assertEquals(font, firstFont,
+                        "All headings should have consistent font family");
+            }
+
+            return "All headings use consistent font family";
+        }).inCategory(TestCase.Category.STYLE);
+    }
+
+    // TC-17: Verify Reserve Table Button Has Hover Effect
+    static TestCase reserveButtonHoverEffect() {
+        return TestCase.of("TC-17", "testReserveButtonHoverEffect", "Verify Reserve Table Button Has Hover Effect", context -> {
+            WebElement reserveButton = context.page().hero().reserveButton();
+            String initialColor = context.waits().computedStyle(reserveButton, "background-color");
+            // Hovering flips React state, which re-renders the button's inline style; id locators are named by their id
+            PageEvents events = context.pageEvents();
+            long rendersBefore = events == null ? 0 : events.mutationCount(RESERVE_BUTTON.getName());
+
+            context.page().hover(reserveButton);
+
+            if (events != null) {
+                assertTrue(events.awaitMutation(RESERVE_BUTTON.getName(), rendersBefore, WaitEngine.DEFAULT_TIMEOUT),
+                        "Button should re-render on hover");
+            }
+            // Returns as soon as the hover transition has finished
+            String hoverColor = context.waits().untilStyleChanges(reserveButton, "background-color", initialColor);
+
+            assertNotEquals(initialColor, hoverColor,
+                    "Button color should change on hover");
+
+            return "Reserve button has hover effect";
+        }).inCategory(TestCase.Category.INTERACTION)
+                .touching(RESERVE_BUTTON)
+                .withFreshPage(); // Compares against the button's initial colour, so no leftover hover state is allowed
+    }
+
+    // TC-18: Verify Landing Page Loads Within Performance Budget
+    static TestCase pageLoadBudget() {
+        return TestCase.of("TC-18", "testPageLoadBudget", "Verify Landing Page Loads Within Performance Budget", context -> {
+            PageMetrics metrics = context.metrics();
+
+            PerformanceBudget.fromConfig(HarnessConfig.shared()).assertWithin(metrics);
+
+            return "Page load within budget: " + metrics;
+        }).inCategory(TestCase.Category.PERFORMANCE)
+                .withFreshPage(); // Paint and layout-shift entries only describe a real navigation
+    }
+}
@@ -0,0 +1,101 @@
+package org.brewbite.cases;
+
+import org.brewbite.locate.Locator;
+import java.util.List;
+
+/**
+ * One test case, defined once and run by {@link CaseEngine} for every
+ * runner. The body performs its checks through {@link Verify} and returns
+ * the detail printed after "PASSED -".
+ */
+public class TestCase {
+
+    @FunctionalInterface
+    public interface Body {
+        String run(CaseContext context) throws Exception;
+    }
+
+    // Kind of check, used to split the cases into groups that run side by side
+    public enum Category {
+        CONTENT,     // presence and text of elements
+        STYLE,       // computed CSS
+        INTERACTION, // clicks, hovers and what they trigger
+        PERFORMANCE  // load and rendering metrics against a budget
+    }
+
+    private final String id;
+    private final String name;
+    private final String title;
+    private final Body body;
+    private final Category category;
+    private final boolean freshPage;
+    private final List<Locator> touched;
+
+    private TestCase(String id, String name, String title, Body body, Category category, boolean freshPage,
+                     List<Locator> touched) {
+        this.id = id;
+        this.name = name;
+        this.title = title;
+        this.body = body;
+        this.category = category;
+        this.freshPage = freshPage;
+        this.touched = touched;
+    }
+
+    /**
+     * @param id    e.g. "TC-01"
+     * @param name  method-style name used in reports, e.g. "testNavigationBarLinks"
+     * @param title what the case verifies, e.g. "Verify Navigation Bar Is Visible"
+     */
+    public static TestCase of(String id, String name, String title, Body body) {
+        return new TestCase(id, name, title, body, Category.CONTENT, false, List.of());
+    }
+
+    // Cases are content checks unless stated otherwise
+    public TestCase inCategory(Category category) {
+        return new TestCase(id, name, title, body, category, freshPage, touched);
+    }
+
+    // The case must start from a freshly loaded page rather than one reused from the previous case
+    public TestCase withFreshPage() {
+        return new TestCase(id, name, title, body, category, true, touched);
+    }
+
+    // Elements whose source the case depends on; a case that names none is affected by every change
+    public TestCase touching(Locator... locators) {
+        return new TestCase(id, name, title, body, category, freshPage, List.of(locators));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Body getBody() {
+        return body;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public boolean isFreshPage() {
+        return freshPage;
+    }
+
+    public List<Locator> getTouched() {
+        return touched;
+    }
+
+    @Override
+    public String toString() {
+        return id + ": " + title;
+    }
+}
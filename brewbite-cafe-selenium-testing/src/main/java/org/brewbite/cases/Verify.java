@@ -0,0 +1,36 @@
+package org.brewbite.cases;
+
+/**
+ * Framework-neutral assertions for shared test cases. Failures are thrown as
+ * {@link AssertionError}, which JUnit, TestNG and the plain runner all
+ * report as a failed test.
+ */
+public final class Verify {
+
+    private Verify() {
+    }
+
+    public static void assertTrue(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static void assertFalse(boolean condition, String message) {
+        if (condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    public static void assertEquals(String actual, String expected, String message) {
+        if (!actual.equals(expected)) {
+            throw new AssertionError(message + " Expected: " + expected + ", Actual: " + actual);
+        }
+    }
+
+    public static void assertNotEquals(String actual, String expected, String message) {
+        if (actual.equals(expected)) {
+            throw new AssertionError(message + " Both values are: " + actual);
+        }
+    }
+}
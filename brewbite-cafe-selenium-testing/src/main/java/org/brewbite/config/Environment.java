@@ -0,0 +1,113 @@
+package org.brewbite.config;
+
+import org.brewbite.driver.LaunchProfile;
+import org.brewbite.server.StaticSiteServer;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One target the suite runs against: where the app is served and, optionally,
+ * the browser window size to test it at. Environments are declared in
+ * {@link HarnessConfig}:
+ *
+ * <pre>
+ * brewbite.environments = prod-desktop, prod-mobile, dev
+ * brewbite.env.prod-desktop.window = 1920x1080
+ * brewbite.env.prod-mobile.window = 390x844
+ * brewbite.env.dev.baseUrl = dev
+ * </pre>
+ *
+ * A base URL of {@code static} is the embedded {@link StaticSiteServer},
+ * {@code dev} the Vite dev server; anything else is used as given. Without a
+ * base URL an environment uses {@code brewbite.baseUrl}, falling back to the
+ * static build and then the dev server. Without {@code brewbite.environments}
+ * there is a single environment called {@code default}.
+ */
+public final class Environment {
+
+    public static final String ENVIRONMENTS_KEY = "brewbite.environments";
+    public static final String BASE_URL_KEY = "brewbite.baseUrl";
+    public static final String DEV_SERVER_URL = "http://localhost:5173";
+    public static final String DEFAULT_NAME = "default";
+
+    private final String name;
+    private final String baseUrl;
+    private final Dimension window;
+
+    private Environment(String name, String baseUrl, Dimension window) {
+        this.name = name;
+        this.baseUrl = baseUrl;
+        this.window = window;
+    }
+
+    public static Environment defaultEnvironment() {
+        return new Environment(DEFAULT_NAME, resolveBaseUrl(HarnessConfig.shared().get(BASE_URL_KEY)), null);
+    }
+
+    // Every environment listed in brewbite.environments, or just the default one
+    public static List<Environment> fromConfig(HarnessConfig config) {
+        List<String> names = config.getList(ENVIRONMENTS_KEY);
+        if (names.isEmpty()) {
+            return List.of(defaultEnvironment());
+        }
+        List<Environment> environments = new ArrayList<>();
+        for (String name : names) {
+            String prefix = "brewbite.env." + name + ".";
+            String window = config.get(prefix + "window");
+            environments.add(new Environment(name,
+                    resolveBaseUrl(config.get(prefix + "baseUrl", config.get(BASE_URL_KEY))),
+                    window == null ? null : LaunchProfile.parseWindow(window)));
+        }
+        return environments;
+    }
+
+    private static String resolveBaseUrl(String value) {
+        if ("dev".equals(value)) {
+            return DEV_SERVER_URL;
+        }
+        if (value != null && !"static".equals(value)) {
+            return value;
+        }
+        StaticSiteServer server = StaticSiteServer.shared();
+        if (server != null) {
+            return server.baseUrl();
+        }
+        if ("static".equals(value)) {
+            throw new IllegalStateException("Base URL 'static' needs a vite build in " + StaticSiteServer.siteDir());
+        }
+        System.out.println("No app build in " + StaticSiteServer.siteDir() + ", testing against the dev server at " + DEV_SERVER_URL);
+        return DEV_SERVER_URL;
+    }
+
+    // Sizes a freshly leased browser for this environment; the pool restores the size on release
+    public void apply(WebDriver driver) {
+        if (window != null) {
+            driver.manage().window().setSize(window);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    // Null when the launch profile's window is used
+    public Dimension getWindow() {
+        return window;
+    }
+
+    public boolean isDefault() {
+        return DEFAULT_NAME.equals(name);
+    }
+
+    // e.g. "prod-mobile (http://127.0.0.1:41234/, 390x844)"
+    @Override
+    public String toString() {
+        return name + " (" + baseUrl + (window == null ? "" : ", " + window.getWidth() + "x" + window.getHeight()) + ")";
+    }
+}
@@ -0,0 +1,168 @@
+package org.brewbite.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Harness settings looked up in three layers, first match wins:
+ * <ol>
+ *   <li>system properties, e.g. {@code -Dbrewbite.baseUrl=...}</li>
+ *   <li>environment variables, named by upper-casing the key and replacing
+ *       dots and dashes with underscores: {@code BREWBITE_BASEURL}</li>
+ *   <li>a properties file: {@code brewbite.config} if set, otherwise
+ *       {@code brewbite.properties} on the classpath</li>
+ * </ol>
+ * Blank values count as unset, so an empty surefire property does not hide
+ * a value from a lower layer.
+ */
+public final class HarnessConfig {
+
+    public static final String FILE_PROPERTY = "brewbite.config";
+    public static final String DEFAULT_RESOURCE = "brewbite.properties";
+
+    private static HarnessConfig shared;
+
+    private final Properties file;
+    private final Map<String, String> environment;
+    private final String source;
+
+    HarnessConfig(Properties file, Map<String, String> environment, String source) {
+        this.file = file;
+        this.environment = environment;
+        this.source = source;
+    }
+
+    public static synchronized HarnessConfig shared() {
+        if (shared == null) {
+            Properties file = new Properties();
+            String source = load(file);
+            shared = new HarnessConfig(file, System.getenv(), source);
+        }
+        return shared;
+    }
+
+    private static String load(Properties file) {
+        String configured = System.getProperty(FILE_PROPERTY);
+        try {
+            if (configured != null && !configured.isBlank()) {
+                Path path = Paths.get(configured);
+                if (!Files.isRegularFile(path)) {
+                    throw new IllegalArgumentException(FILE_PROPERTY + " points to a missing file: " + path.toAbsolutePath());
+                }
+                try (InputStream in = Files.newInputStream(path)) {
+                    file.load(in);
+                }
+                return path.toString();
+            }
+            try (InputStream in = HarnessConfig.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (in == null) {
+                    return null;
+                }
+                file.load(in);
+                return "classpath:" + DEFAULT_RESOURCE;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read harness config", e);
+        }
+    }
+
+    // Value of the key, or null if no layer sets it
+    public String get(String key) {
+        String value = System.getProperty(key);
+        if (isBlank(value)) {
+            value = environment.get(environmentName(key));
+        }
+        if (isBlank(value)) {
+            value = file.getProperty(key);
+        }
+        return isBlank(value) ? null : value.trim();
+    }
+
+    public String get(String key, String defaultValue) {
+        String value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be a whole number, got '" + value + "'");
+        }
+    }
+
+    // "250ms", "90s", "45m", "2h" or ISO-8601 such as "PT1H30M"; the default if unset
+    public Duration getDuration(String key, Duration defaultValue) {
+        String value = get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        String text = value.toLowerCase(Locale.ROOT);
+        try {
+            if (text.startsWith("p")) {
+                return Duration.parse(text.toUpperCase(Locale.ROOT));
+            }
+            if (text.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+            }
+            String amount = text.substring(0, text.length() - 1);
+            switch (text.charAt(text.length() - 1)) {
+                case 's':
+                    return Duration.ofSeconds(Long.parseLong(amount));
+                case 'm':
+                    return Duration.ofMinutes(Long.parseLong(amount));
+                case 'h':
+                    return Duration.ofHours(Long.parseLong(amount));
+                default:
+                    break;
+            }
+        } catch (RuntimeException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException(key + " must look like 250ms, 90s, 45m, 2h or PT1H30M, got '" + value + "'");
+    }
+
+    // Comma-separated value as a list, empty if unset
+    public List<String> getList(String key) {
+        String value = get(key);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        List<String> items = new ArrayList<>();
+        for (String item : value.split(",")) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    // e.g. brewbite.env.mobile.window -> BREWBITE_ENV_MOBILE_WINDOW
+    static String environmentName(String key) {
+        return key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @Override
+    public String toString() {
+        return "system properties, environment" + (source == null ? "" : ", " + source);
+    }
+}
@@ -0,0 +1,251 @@
+package org.brewbite.dom;
+
+import org.brewbite.locate.Locator;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Facts about many elements gathered in a single {@code executeAsyncScript}
+ * call. Instead of one findElement plus one isDisplayed / getText /
+ * getCssValue round trip per element, a test declares up front what it
+ * needs and asserts against the returned snapshot:
+ *
+ * <pre>
+ * DomSnapshot snapshot = DomSnapshot.builder()
+ *         .select(NAVBAR).displayed().styles("background-color")
+ *         .select(MENU_ITEMS).styles("box-shadow").children(MENU_ITEM_NAME, MENU_ITEM_PRICE)
+ *         .take(driver);
+ * </pre>
+ *
+ * Like a {@link org.brewbite.locate.Finder} lookup, the script keeps polling
+ * (within the builder's budget) until every non-optional query matches.
+ */
+public class DomSnapshot {
+
+    private static final String SNAPSHOT_SCRIPT =
+            "var queries = arguments[0], timeout = arguments[1];" +
+                    "var done = arguments[arguments.length - 1];" +
+                    "var start = performance.now();" +
+                    "var text = function (el) { return (el.innerText || el.textContent || '').trim(); };" +
+                    "var visible = function (el) {" +
+                    "  var r = el.getBoundingClientRect();" +
+                    "  if (r.width === 0 && r.height === 0) { return false; }" +
+                    "  if (el.checkVisibility) { return el.checkVisibility({ opacityProperty: true, visibilityProperty: true }); }" +
+                    "  var cs = getComputedStyle(el);" +
+                    "  return cs.display !== 'none' && cs.visibility !== 'hidden' && cs.opacity !== '0';" +
+                    "};" +
+                    "var facts = function (el, q) {" +
+                    "  var f = {};" +
+                    "  if (q.text) { f.text = text(el); }" +
+                    "  if (q.displayed) { f.displayed = visible(el); }" +
+                    "  if (q.enabled) { f.enabled = !el.disabled; }" +
+                    "  if (q.rect) {" +
+                    "    var r = el.getBoundingClientRect();" +
+                    "    f.rect = { x: Math.round(r.left), y: Math.round(r.top), width: Math.round(r.width), height: Math.round(r.height) };" +
+                    "  }" +
+                    "  if (q.styles.length) {" +
+                    "    var cs = getComputedStyle(el); f.styles = {};" +
+                    "    q.styles.forEach(function (p) { f.styles[p] = cs.getPropertyValue(p); });" +
+                    "  }" +
+                    "  if (q.attributes.length) {" +
+                    "    f.attributes = {};" +
+                    "    q.attributes.forEach(function (a) { f.attributes[a] = el.getAttribute(a); });" +
+                    "  }" +
+                    "  if (q.children.length) {" +
+                    "    f.children = {};" +
+                    "    q.children.forEach(function (c) {" +
+                    "      var child = el.querySelector(c.selector);" +
+                    "      f.children[c.key] = child ? { text: text(child), displayed: visible(child) } : null;" +
+                    "    });" +
+                    "  }" +
+                    "  return f;" +
+                    "};" +
+                    "var ready = function () {" +
+                    "  return queries.every(function (q) { return q.optional || document.querySelector(q.selector) !== null; });" +
+                    "};" +
+                    "var collect = function () {" +
+                    "  var result = {};" +
+                    "  queries.forEach(function (q) {" +
+                    "    result[q.key] = Array.prototype.map.call(document.querySelectorAll(q.selector)," +
+                    "        function (el) { return facts(el, q); });" +
+                    "  });" +
+                    "  return result;" +
+                    "};" +
+                    "var tick = function () {" +
+                    "  if (ready() || performance.now() - start > timeout) { done(collect()); return; }" +
+                    "  setTimeout(tick, 25);" +
+                    "};" +
+                    "tick();";
+
+    private final Map<String, List<ElementFacts>> elements;
+
+    private DomSnapshot(Map<String, List<ElementFacts>> elements) {
+        this.elements = elements;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<ElementFacts> all(Locator locator) {
+        List<ElementFacts> matches = elements.get(locator.getName());
+        if (matches == null) {
+            throw new IllegalStateException("Locator " + locator.getName() + " was not part of this snapshot");
+        }
+        return matches;
+    }
+
+    public ElementFacts first(Locator locator) {
+        List<ElementFacts> matches = all(locator);
+        if (matches.isEmpty()) {
+            throw new NoSuchElementException("Snapshot found no element for " + locator);
+        }
+        return matches.get(0);
+    }
+
+    public int count(Locator locator) {
+        return all(locator).size();
+    }
+
+    public static class Builder {
+
+        private final List<Query> queries = new ArrayList<>();
+        private Duration budget = Locator.DEFAULT_BUDGET;
+
+        private Builder() {
+        }
+
+        public Query select(Locator locator) {
+            Query query = new Query(this, locator);
+            queries.add(query);
+            return query;
+        }
+
+        // How long to wait for non-optional queries to match before collecting anyway
+        public Builder within(Duration budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public DomSnapshot take(WebDriver driver) {
+            List<Map<String, Object>> payload = new ArrayList<>();
+            for (Query query : queries) {
+                payload.add(query.toPayload());
+            }
+
+            Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver)
+                    .executeAsyncScript(SNAPSHOT_SCRIPT, payload, budget.toMillis());
+
+            Map<String, List<ElementFacts>> elements = new LinkedHashMap<>();
+            for (Query query : queries) {
+                List<ElementFacts> matches = new ArrayList<>();
+                for (Object facts : (List<Object>) raw.get(query.locator.getName())) {
+                    matches.add(new ElementFacts((Map<String, Object>) facts));
+                }
+                elements.put(query.locator.getName(), Collections.unmodifiableList(matches));
+            }
+            return new DomSnapshot(elements);
+        }
+    }
+
+    public static class Query {
+
+        private final Builder builder;
+        private final Locator locator;
+        private boolean text;
+        private boolean displayed;
+        private boolean enabled;
+        private boolean rect;
+        private boolean optional;
+        private final List<String> styles = new ArrayList<>();
+        private final List<String> attributes = new ArrayList<>();
+        private final List<Locator> children = new ArrayList<>();
+
+        private Query(Builder builder, Locator locator) {
+            this.builder = builder;
+            this.locator = locator;
+        }
+
+        public Query text() {
+            text = true;
+            return this;
+        }
+
+        public Query displayed() {
+            displayed = true;
+            return this;
+        }
+
+        public Query enabled() {
+            enabled = true;
+            return this;
+        }
+
+        public Query rect() {
+            rect = true;
+            return this;
+        }
+
+        public Query styles(String... properties) {
+            styles.addAll(Arrays.asList(properties));
+            return this;
+        }
+
+        public Query attributes(String... names) {
+            attributes.addAll(Arrays.asList(names));
+            return this;
+        }
+
+        // Text and visibility of the first matching descendant of each element
+        public Query children(Locator... locators) {
+            children.addAll(Arrays.asList(locators));
+            return this;
+        }
+
+        // Zero matches is a valid outcome, so the snapshot does not wait for this query
+        public Query optional() {
+            optional = true;
+            return this;
+        }
+
+        public Query select(Locator locator) {
+            return builder.select(locator);
+        }
+
+        public DomSnapshot take(WebDriver driver) {
+            return builder.take(driver);
+        }
+
+        private Map<String, Object> toPayload() {
+            List<Map<String, Object>> childPayload = new ArrayList<>();
+            for (Locator child : children) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("key", child.getName());
+                entry.put("selector", child.getCssSelector());
+                childPayload.add(entry);
+            }
+
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("key", locator.getName());
+            payload.put("selector", locator.getCssSelector());
+            payload.put("text", text);
+            payload.put("displayed", displayed);
+            payload.put("enabled", enabled);
+            payload.put("rect", rect);
+            payload.put("optional", optional);
+            payload.put("styles", styles);
+            payload.put("attributes", attributes);
+            payload.put("children", childPayload);
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.brewbite.dom;
+
+import org.brewbite.locate.Locator;
+import org.openqa.selenium.Rectangle;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Everything a {@link DomSnapshot} collected about one matched element.
+ * Only the facts requested for the element's query are populated; asking
+ * for anything else fails fast instead of silently returning a default.
+ */
+public class ElementFacts {
+
+    private final Map<String, Object> facts;
+
+    ElementFacts(Map<String, Object> facts) {
+        this.facts = facts;
+    }
+
+    // Rendered text, trimmed like WebElement.getText()
+    public String getText() {
+        return (String) require("text");
+    }
+
+    public boolean isDisplayed() {
+        return (Boolean) require("displayed");
+    }
+
+    public boolean isEnabled() {
+        return (Boolean) require("enabled");
+    }
+
+    public Rectangle getRect() {
+        Map<?, ?> rect = (Map<?, ?>) require("rect");
+        return new Rectangle(number(rect.get("x")), number(rect.get("y")),
+                number(rect.get("height")), number(rect.get("width")));
+    }
+
+    // Computed value as returned by getComputedStyle(), e.g. "rgb(44, 62, 80)"
+    public String getStyle(String property) {
+        return (String) section("styles").get(property);
+    }
+
+    public String getAttribute(String name) {
+        return (String) section("attributes").get(name);
+    }
+
+    /**
+     * Text and visibility of the first descendant matching {@code child},
+     * or {@code null} if the element has no such descendant.
+     */
+    @SuppressWarnings("unchecked")
+    public ElementFacts child(Locator child) {
+        Map<String, Object> childFacts = (Map<String, Object>) section("children").get(child.getName());
+        return childFacts == null ? null : new ElementFacts(childFacts);
+    }
+
+    private Object require(String fact) {
+        Object value = facts.get(fact);
+        if (value == null) {
+            throw new IllegalStateException("Fact '" + fact + "' was not requested for this element");
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> section(String name) {
+        Object value = facts.get(name);
+        if (value == null) {
+            throw new IllegalStateException("No " + name + " were requested for this element");
+        }
+        return value instanceof Map ? (Map<String, Object>) value : Collections.emptyMap();
+    }
+
+    private static int number(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    @Override
+    public String toString() {
+        return facts.toString();
+    }
+}
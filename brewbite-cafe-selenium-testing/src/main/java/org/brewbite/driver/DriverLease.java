@@ -0,0 +1,58 @@
+package org.brewbite.driver;
+
+import org.openqa.selenium.WebDriver;
+import java.time.Duration;
+
+/**
+ * A browser session borrowed from a {@link DriverPool}. Closing the lease
+ * resets the session and hands it back to the pool instead of quitting it.
+ */
+public class DriverLease implements AutoCloseable {
+
+    private final DriverPool pool;
+    private final DriverPool.PooledSession session;
+    private final Duration waitTime;
+    private boolean released;
+
+    DriverLease(DriverPool pool, DriverPool.PooledSession session, Duration waitTime) {
+        this.pool = pool;
+        this.session = session;
+        this.waitTime = waitTime;
+    }
+
+    public WebDriver driver() {
+        if (released) {
+            throw new IllegalStateException("Lease has already been returned to the pool");
+        }
+        return session.driver;
+    }
+
+    // Time the caller spent blocked in DriverPool.lease(), including any cold start
+    public Duration waitTime() {
+        return waitTime;
+    }
+
+    public synchronized boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Ends the lease by quitting the browser rather than resetting it, e.g.
+     * when it has grown too large to keep; the pool launches a replacement
+     * on demand.
+     */
+    public synchronized void retire() {
+        if (!released) {
+            released = true;
+            pool.retire(session);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!released) {
+            released = true;
+            pool.release(session);
+        }
+    }
+}
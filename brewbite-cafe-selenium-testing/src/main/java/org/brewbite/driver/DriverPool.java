@@ -0,0 +1,282 @@
+package org.brewbite.driver;
+
+import org.brewbite.config.HarnessConfig;
+import org.brewbite.events.PageEvents;
+import org.brewbite.network.AssetCache;
+import org.brewbite.network.NetworkPolicy;
+import org.brewbite.network.NetworkTap;
+import org.brewbite.report.CommandListener;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Keeps a fixed number of warm browser sessions and leases them to test
+ * classes. Sessions are reset (cookies, storage, scroll, viewport, extra
+ * windows) when a lease is returned instead of being quit, so Chrome only
+ * pays its cold start once per session for the whole JVM.
+ *
+ * The JVM-wide pool is sized by the {@code brewbite.pool.size} setting of
+ * the {@link HarnessConfig}, or else by the most sessions any runner has
+ * asked for through {@link #requireSessions} (at least the worker count).
+ * It launches browsers with the configured {@link LaunchProfile}, attaches a
+ * {@link NetworkTap} and {@link PageEvents} and wraps each browser in a {@link CommandListener}
+ * unless those are turned off, and is
+ * shut down by a shutdown hook. Each surefire fork is its own JVM and so gets
+ * its own pool.
+ */
+public class DriverPool {
+
+    public static final String SIZE_PROPERTY = "brewbite.pool.size";
+
+    private static final Duration DEFAULT_LEASE_TIMEOUT = Duration.ofMinutes(2);
+    private static final long POLL_MILLIS = 100;
+
+    private static final String RESET_SCRIPT =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}" +
+                    "window.scrollTo(0, 0);";
+
+    private static DriverPool shared;
+    private static int required;
+
+    private final int size;
+    private final Supplier<WebDriver> factory;
+    private final BlockingQueue<PooledSession> idle = new LinkedBlockingQueue<>();
+    private final List<PooledSession> sessions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final LeaseStats stats = new LeaseStats();
+    private volatile boolean closed;
+
+    public DriverPool(int size, Supplier<WebDriver> factory) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1, was " + size);
+        }
+        this.size = size;
+        this.factory = factory;
+    }
+
+    // JVM-wide pool shared by every test class
+    public static synchronized DriverPool shared() {
+        if (shared == null) {
+            int size = HarnessConfig.shared().getInt(SIZE_PROPERTY, Math.max(required, WorkerDrivers.workerCount()));
+            LaunchProfile profile = LaunchProfile.fromSystemProperties();
+            ForkSlot slot = ForkSlot.current();
+            System.out.println("Driver pool: " + size + " session(s), launch profile " + profile
+                    + (slot.isForked() || slot.hasPortRange() ? ", " + slot : ""));
+
+            NetworkPolicy network = NetworkPolicy.fromConfig(HarnessConfig.shared());
+            System.out.println("Network tap: " + network);
+            Supplier<WebDriver> tapped = () -> PageEvents.attach(
+                    NetworkTap.attach(profile.launch(), network, AssetCache.shared()));
+            Supplier<WebDriver> factory = CommandListener.isEnabled()
+                    ? () -> CommandListener.instrument(tapped.get())
+                    : tapped;
+            DriverPool pool = new DriverPool(size, factory);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                pool.close();
+                profile.deleteUserDataDirs();
+            }, "driver-pool-shutdown"));
+            pool.prewarm();
+            shared = pool;
+        }
+        return shared;
+    }
+
+    /**
+     * Records how many sessions a runner will hold at once, e.g. workers x
+     * environments, so the shared pool is large enough for all of them.
+     * Must be called before the first {@link #shared()}; an explicit
+     * {@code brewbite.pool.size} still wins.
+     */
+    public static synchronized void requireSessions(int sessions) {
+        if (shared != null && sessions > shared.size) {
+            System.out.println("Driver pool: " + sessions + " session(s) needed but the pool was already started with "
+                    + shared.size + "; leases may wait");
+        }
+        required = Math.max(required, sessions);
+    }
+
+    /**
+     * Launches every remaining session in the background so the first
+     * leases find a warm browser waiting.
+     */
+    public void prewarm() {
+        List<Thread> launchers = new ArrayList<>();
+        while (tryReserve()) {
+            Thread launcher = new Thread(() -> {
+                try {
+                    idle.offer(launch());
+                } catch (RuntimeException e) {
+                    System.out.println("Driver pool: pre-launch failed - " + e.getMessage());
+                }
+            }, "driver-pool-prewarm-" + launchers.size());
+            launcher.setDaemon(true);
+            launchers.add(launcher);
+        }
+        launchers.forEach(Thread::start);
+    }
+
+    public DriverLease lease() {
+        return lease(DEFAULT_LEASE_TIMEOUT);
+    }
+
+    public DriverLease lease(Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        PooledSession session = idle.poll();
+
+        try {
+            while (session == null) {
+                if (closed) {
+                    throw new IllegalStateException("Driver pool has been closed");
+                }
+                if (tryReserve()) {
+                    session = launch();
+                    break;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("No browser session became available within "
+                            + timeout.toMillis() + " ms (pool size " + size + ")");
+                }
+                session = idle.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(POLL_MILLIS)),
+                        TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session", e);
+        }
+
+        long waitNanos = System.nanoTime() - start;
+        stats.recordLease(waitNanos);
+        return new DriverLease(this, session, Duration.ofNanos(waitNanos));
+    }
+
+    void release(PooledSession session) {
+        if (closed) {
+            discard(session);
+            return;
+        }
+        try {
+            reset(session);
+            idle.offer(session);
+        } catch (RuntimeException e) {
+            // Any failure, not just a WebDriverException, would otherwise leak the session's slot
+            System.out.println("Driver pool: discarding session that failed to reset - " + e.getMessage());
+            stats.recordDiscard();
+            discard(session);
+        }
+    }
+
+    // Quits a leased session instead of taking it back; the next lease launches a fresh browser
+    void retire(PooledSession session) {
+        stats.recordDiscard();
+        discard(session);
+    }
+
+    public LeaseStats stats() {
+        return stats;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void close() {
+        closed = true;
+        for (PooledSession session : sessions) {
+            discard(session);
+        }
+        idle.clear();
+    }
+
+    private boolean tryReserve() {
+        while (true) {
+            int current = reserved.get();
+            if (current >= size) {
+                return false;
+            }
+            if (reserved.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private PooledSession launch() {
+        long start = System.nanoTime();
+        WebDriver driver = null;
+        try {
+            driver = factory.get();
+            stats.recordLaunch(System.nanoTime() - start);
+            PooledSession session = new PooledSession(driver, driver.getWindowHandle(),
+                    driver.manage().window().getSize());
+            sessions.add(session);
+            return session;
+        } catch (RuntimeException e) {
+            // Give the slot back and don't leave a half-started browser running
+            reserved.decrementAndGet();
+            if (driver != null) {
+                try {
+                    driver.quit();
+                } catch (WebDriverException quitFailure) {
+                    e.addSuppressed(quitFailure);
+                }
+            }
+            throw e;
+        }
+    }
+
+    private void reset(PooledSession session) {
+        WebDriver driver = session.driver;
+
+        // Close any tabs or windows a test opened, keeping the original one
+        for (String handle : driver.getWindowHandles()) {
+            if (!handle.equals(session.windowHandle)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(session.windowHandle);
+
+        // Storage and cookies are scoped to the current origin, so clear them before leaving it
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript(RESET_SCRIPT);
+
+        if (!driver.manage().window().getSize().equals(session.viewport)) {
+            driver.manage().window().setSize(session.viewport);
+        }
+        driver.get("about:blank");
+    }
+
+    private void discard(PooledSession session) {
+        if (sessions.remove(session)) {
+            reserved.decrementAndGet();
+            try {
+                session.driver.quit();
+            } catch (WebDriverException e) {
+                // Browser is already gone
+            }
+        }
+    }
+
+    static final class PooledSession {
+        final WebDriver driver;
+        final String windowHandle;
+        final Dimension viewport;
+
+        PooledSession(WebDriver driver, String windowHandle, Dimension viewport) {
+            this.driver = driver;
+            this.windowHandle = windowHandle;
+            this.viewport = viewport;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.brewbite.driver;
+
+import org.brewbite.config.HarnessConfig;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Which surefire fork this JVM is, and the block of ports its chromedriver
+ * services may bind. The {@code forked} build profile passes the fork number
+ * as {@code brewbite.fork} (1-based); fork {@code N} owns ports
+ * {@code brewbite.port.base + (N - 1) * brewbite.port.range} up to, but not
+ * including, the next fork's block, so parallel forks never race for the same
+ * port. Without {@code brewbite.port.base} chromedriver picks its own ports.
+ */
+public final class ForkSlot {
+
+    public static final String FORK_PROPERTY = "brewbite.fork";
+    public static final String PORT_BASE_PROPERTY = "brewbite.port.base";
+    public static final String PORT_RANGE_PROPERTY = "brewbite.port.range";
+
+    private static final int DEFAULT_PORT_RANGE = 32;
+
+    private static ForkSlot current;
+
+    private final int number;
+    private final boolean forked;
+    private final int firstPort;
+    private final int portRange;
+    private final AtomicInteger nextOffset = new AtomicInteger();
+
+    private ForkSlot(int number, boolean forked, int portBase, int portRange) {
+        this.number = number;
+        this.forked = forked;
+        this.firstPort = portBase <= 0 ? 0 : portBase + (number - 1) * portRange;
+        this.portRange = portRange;
+    }
+
+    public static synchronized ForkSlot current() {
+        if (current == null) {
+            String fork = System.getProperty(FORK_PROPERTY, "").trim();
+            // An unresolved ${surefire.forkNumber} means surefire ran the tests in-process
+            boolean forked = fork.matches("\\d+");
+            int range = HarnessConfig.shared().getInt(PORT_RANGE_PROPERTY, DEFAULT_PORT_RANGE);
+            if (range < 1) {
+                throw new IllegalArgumentException(PORT_RANGE_PROPERTY + " must be at least 1, was " + range);
+            }
+            current = new ForkSlot(forked ? Math.max(1, Integer.parseInt(fork)) : 1, forked,
+                    HarnessConfig.shared().getInt(PORT_BASE_PROPERTY, 0), range);
+        }
+        return current;
+    }
+
+    public int number() {
+        return number;
+    }
+
+    public boolean isForked() {
+        return forked;
+    }
+
+    public boolean hasPortRange() {
+        return firstPort > 0;
+    }
+
+    /**
+     * Next free port in this fork's block, cycling through the block as
+     * sessions are launched and discarded.
+     */
+    public int nextPort() {
+        if (!hasPortRange()) {
+            throw new IllegalStateException("No port range configured, set " + PORT_BASE_PROPERTY);
+        }
+        for (int attempt = 0; attempt < portRange; attempt++) {
+            int port = firstPort + Math.floorMod(nextOffset.getAndIncrement(), portRange);
+            if (isFree(port)) {
+                return port;
+            }
+        }
+        throw new IllegalStateException("No free port left in " + firstPort + "-" + (firstPort + portRange - 1)
+                + " for fork " + number);
+    }
+
+    private static boolean isFree(int port) {
+        try (ServerSocket socket = new ServerSocket(port, 1, InetAddress.getLoopbackAddress())) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // e.g. "fork 3, ports 9664-9695"
+    @Override
+    public String toString() {
+        return (forked ? "fork " + number : "not forked")
+                + (hasPortRange() ? ", ports " + firstPort + "-" + (firstPort + portRange - 1) : "");
+    }
+}
@@ -0,0 +1,205 @@
+package org.brewbite.driver;
+
+import org.brewbite.config.HarnessConfig;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+/**
+ * How Chrome is launched for the driver pool. Two base profiles exist,
+ * selected with {@code -Dbrewbite.profile}:
+ * <ul>
+ *   <li>{@code local} (default) - a normal, maximised browser window</li>
+ *   <li>{@code ci} - {@code --headless=new}, fixed 1920x1080 window, background
+ *       work disabled and a throwaway user-data-dir on tmpfs</li>
+ * </ul>
+ * Individual settings can be overridden with {@code brewbite.headless},
+ * {@code brewbite.window} ({@code WIDTHxHEIGHT}), {@code brewbite.pageLoadStrategy}
+ * ({@code normal}, {@code eager}, {@code none}) and {@code brewbite.userDataRoot}.
+ *
+ * Inside a surefire fork, chromedriver binds a port from the fork's
+ * {@link ForkSlot} block and user-data-dirs are named after the fork.
+ */
+public class LaunchProfile {
+
+    public static final String PROFILE_PROPERTY = "brewbite.profile";
+    public static final String HEADLESS_PROPERTY = "brewbite.headless";
+    public static final String WINDOW_PROPERTY = "brewbite.window";
+    public static final String PAGE_LOAD_PROPERTY = "brewbite.pageLoadStrategy";
+    public static final String USER_DATA_ROOT_PROPERTY = "brewbite.userDataRoot";
+
+    private static final Dimension CI_WINDOW = new Dimension(1920, 1080);
+    private static final Path TMPFS = Paths.get("/dev/shm");
+
+    // Switches that stop Chrome doing work nobody looks at during a test run
+    private static final List<String> LEAN_ARGUMENTS = List.of(
+            "--disable-background-timer-throttling",
+            "--disable-backgrounding-occluded-windows",
+            "--disable-renderer-backgrounding",
+            "--disable-background-networking",
+            "--disable-extensions",
+            "--disable-component-update",
+            "--disable-default-apps",
+            "--disable-sync",
+            "--no-first-run",
+            "--no-default-browser-check",
+            "--mute-audio");
+
+    private final String name;
+    private final boolean headless;
+    private final Dimension windowSize;
+    private final boolean lean;
+    private final PageLoadStrategy pageLoadStrategy;
+    private final Path userDataRoot;
+    private final List<Path> userDataDirs = new ArrayList<>();
+
+    private LaunchProfile(String name, boolean headless, Dimension windowSize, boolean lean,
+                          PageLoadStrategy pageLoadStrategy, Path userDataRoot) {
+        this.name = name;
+        this.headless = headless;
+        this.windowSize = windowSize;
+        this.lean = lean;
+        this.pageLoadStrategy = pageLoadStrategy;
+        this.userDataRoot = userDataRoot;
+    }
+
+    public static LaunchProfile local() {
+        return new LaunchProfile("local", false, null, false, PageLoadStrategy.NORMAL, null);
+    }
+
+    public static LaunchProfile ci() {
+        return new LaunchProfile("ci", true, CI_WINDOW, true, PageLoadStrategy.NORMAL,
+                Files.isDirectory(TMPFS) ? TMPFS : null);
+    }
+
+    public static LaunchProfile fromSystemProperties() {
+        HarnessConfig config = HarnessConfig.shared();
+        String profile = config.get(PROFILE_PROPERTY, "local").toLowerCase(Locale.ROOT);
+        LaunchProfile base;
+        switch (profile) {
+            case "local":
+                base = local();
+                break;
+            case "ci":
+                base = ci();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown " + PROFILE_PROPERTY + " '" + profile
+                        + "', expected 'local' or 'ci'");
+        }
+
+        String headless = config.get(HEADLESS_PROPERTY);
+        String window = config.get(WINDOW_PROPERTY);
+        String pageLoad = config.get(PAGE_LOAD_PROPERTY);
+        String userDataRoot = config.get(USER_DATA_ROOT_PROPERTY);
+
+        return new LaunchProfile(base.name,
+                headless == null ? base.headless : Boolean.parseBoolean(headless),
+                window == null ? base.windowSize : parseWindow(window),
+                base.lean,
+                pageLoad == null ? base.pageLoadStrategy : parsePageLoadStrategy(pageLoad),
+                userDataRoot == null ? base.userDataRoot : Paths.get(userDataRoot));
+    }
+
+    // WIDTHxHEIGHT, e.g. 1366x768
+    public static Dimension parseWindow(String value) {
+        String[] parts = value.toLowerCase(Locale.ROOT).split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(WINDOW_PROPERTY + " must look like 1920x1080, was '" + value + "'");
+        }
+        return new Dimension(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    }
+
+    private static PageLoadStrategy parsePageLoadStrategy(String value) {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value.trim().toLowerCase(Locale.ROOT));
+        if (strategy == null) {
+            throw new IllegalArgumentException(PAGE_LOAD_PROPERTY + " must be normal, eager or none, was '" + value + "'");
+        }
+        return strategy;
+    }
+
+    public WebDriver launch() {
+        ForkSlot slot = ForkSlot.current();
+        WebDriver driver = slot.hasPortRange()
+                ? new ChromeDriver(new ChromeDriverService.Builder().usingPort(slot.nextPort()).build(), toChromeOptions())
+                : new ChromeDriver(toChromeOptions());
+        if (windowSize == null) {
+            driver.manage().window().maximize();
+        } else if (!headless) {
+            driver.manage().window().setSize(windowSize);
+        }
+        return driver;
+    }
+
+    public ChromeOptions toChromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(pageLoadStrategy);
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        if (headless && windowSize != null) {
+            // Headless windows cannot be maximised, so the size is fixed at launch
+            options.addArguments("--window-size=" + windowSize.getWidth() + "," + windowSize.getHeight());
+        }
+        if (lean) {
+            options.addArguments(LEAN_ARGUMENTS);
+        }
+        if (userDataRoot != null) {
+            options.addArguments("--user-data-dir=" + newUserDataDir());
+        }
+        // Keeps console output readable through the log endpoint for failure captures
+        LoggingPreferences logging = new LoggingPreferences();
+        logging.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability(ChromeOptions.LOGGING_PREFS, logging);
+        return options;
+    }
+
+    private synchronized Path newUserDataDir() {
+        try {
+            ForkSlot slot = ForkSlot.current();
+            String prefix = slot.isForked() ? "brewbite-chrome-fork" + slot.number() + "-" : "brewbite-chrome-";
+            Path dir = Files.createTempDirectory(userDataRoot, prefix);
+            userDataDirs.add(dir);
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create a Chrome user-data-dir in " + userDataRoot, e);
+        }
+    }
+
+    // Removes the user-data-dirs created by this profile; call once their browsers have quit
+    public synchronized void deleteUserDataDirs() {
+        for (Path dir : userDataDirs) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            } catch (IOException e) {
+                System.out.println("Launch profile: could not delete " + dir + " - " + e.getMessage());
+            }
+        }
+        userDataDirs.clear();
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + (headless ? "headless" : "headful")
+                + ", " + (windowSize == null ? "maximized" : windowSize.getWidth() + "x" + windowSize.getHeight())
+                + ", pageLoad=" + pageLoadStrategy
+                + (lean ? ", lean" : "")
+                + (userDataRoot == null ? "" : ", userDataRoot=" + userDataRoot) + ")";
+    }
+}
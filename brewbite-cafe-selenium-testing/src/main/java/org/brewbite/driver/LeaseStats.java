@@ -0,0 +1,70 @@
+package org.brewbite.driver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Running counters for a {@link DriverPool}: how often sessions were leased,
+ * how long callers waited for them and how many browsers had to be launched.
+ */
+public class LeaseStats {
+
+    private long leases;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+    private long launches;
+    private long totalLaunchNanos;
+    private long discarded;
+
+    synchronized void recordLease(long waitNanos) {
+        leases++;
+        totalWaitNanos += waitNanos;
+        maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+    }
+
+    synchronized void recordLaunch(long launchNanos) {
+        launches++;
+        totalLaunchNanos += launchNanos;
+    }
+
+    synchronized void recordDiscard() {
+        discarded++;
+    }
+
+    public synchronized long getLeases() {
+        return leases;
+    }
+
+    public synchronized long getLaunches() {
+        return launches;
+    }
+
+    public synchronized long getDiscarded() {
+        return discarded;
+    }
+
+    public synchronized long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos);
+    }
+
+    public synchronized long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos);
+    }
+
+    public synchronized long getAverageWaitMillis() {
+        return leases == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos / leases);
+    }
+
+    public synchronized long getAverageLaunchMillis() {
+        return launches == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLaunchNanos / launches);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "leases=" + leases
+                + ", avgWait=" + getAverageWaitMillis() + " ms"
+                + ", maxWait=" + getMaxWaitMillis() + " ms"
+                + ", launches=" + launches
+                + ", avgLaunch=" + getAverageLaunchMillis() + " ms"
+                + ", discarded=" + discarded;
+    }
+}
@@ -0,0 +1,155 @@
+package org.brewbite.driver;
+
+import org.brewbite.config.HarnessConfig;
+import org.openqa.selenium.WebDriver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Gives every worker thread of a parallel test run its own browser session.
+ * The first call to {@link #get()} on a thread leases a session from the
+ * pool; {@link #releaseAll()} hands every session back once the test class
+ * has finished.
+ *
+ * Tasks on short-lived threads, such as one virtual thread per case, use
+ * {@link #acquire()} and {@link #handBack} instead: at most
+ * {@code brewbite.workers} sessions are leased, and they are passed from
+ * task to task rather than tied to a thread.
+ *
+ * The number of workers is the {@code brewbite.workers} setting of the
+ * {@link HarnessConfig} and also serves as the default pool size.
+ */
+public class WorkerDrivers {
+
+    public static final String WORKERS_PROPERTY = "brewbite.workers";
+
+    private final DriverPool pool;
+    private final Consumer<WebDriver> initializer;
+    private final ThreadLocal<DriverLease> current = new ThreadLocal<>();
+    private final Map<Thread, DriverLease> leases = new ConcurrentHashMap<>();
+    // Sessions handed from task to task, and a permit per worker to cap how many are in use
+    private final Set<DriverLease> shared = ConcurrentHashMap.newKeySet();
+    private final BlockingQueue<DriverLease> idle = new LinkedBlockingQueue<>();
+    private final Semaphore permits = new Semaphore(workerCount(), true);
+
+    public WorkerDrivers(DriverPool pool) {
+        this(pool, driver -> { });
+    }
+
+    // The initializer runs once per leased session, e.g. to apply timeouts
+    public WorkerDrivers(DriverPool pool, Consumer<WebDriver> initializer) {
+        this.pool = pool;
+        this.initializer = initializer;
+    }
+
+    public static int workerCount() {
+        return Math.max(1, HarnessConfig.shared().getInt(WORKERS_PROPERTY, 1));
+    }
+
+    public WebDriver get() {
+        DriverLease lease = current.get();
+        // Leases returned by releaseAll() are replaced if the thread is reused by a later class
+        if (lease == null || lease.isReleased()) {
+            lease = pool.lease();
+            initializer.accept(lease.driver());
+            current.set(lease);
+            leases.put(Thread.currentThread(), lease);
+        }
+        return lease.driver();
+    }
+
+    /**
+     * Takes a session for one task, blocking while all workers' sessions
+     * are in use. Reuses a session handed back by an earlier task, so its
+     * page can be reused too, and leases a new one only below the worker
+     * count. Every call must be paired with {@link #handBack}.
+     */
+    public DriverLease acquire() throws InterruptedException {
+        permits.acquire();
+        try {
+            for (DriverLease lease = idle.poll(); lease != null; lease = idle.poll()) {
+                if (!lease.isReleased()) {
+                    return lease;
+                }
+            }
+            DriverLease lease = pool.lease();
+            initializer.accept(lease.driver());
+            shared.add(lease);
+            return lease;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void handBack(DriverLease lease) {
+        if (shared.contains(lease) && !lease.isReleased()) {
+            idle.offer(lease);
+        }
+        permits.release();
+    }
+
+    // Browsers currently leased by this run's worker threads or tasks
+    public List<WebDriver> drivers() {
+        List<WebDriver> drivers = new ArrayList<>();
+        for (DriverLease lease : leases.values()) {
+            if (!lease.isReleased()) {
+                drivers.add(lease.driver());
+            }
+        }
+        for (DriverLease lease : shared) {
+            if (!lease.isReleased()) {
+                drivers.add(lease.driver());
+            }
+        }
+        return drivers;
+    }
+
+    /**
+     * Quits one of the leased browsers; the worker thread that held it
+     * leases a new one on its next {@link #get()}, tasks on their next
+     * {@link #acquire()}. Only call this while no case is running on that browser.
+     */
+    public boolean recycle(WebDriver driver) {
+        for (DriverLease lease : shared) {
+            if (!lease.isReleased() && lease.driver() == driver) {
+                shared.remove(lease);
+                idle.remove(lease);
+                lease.retire();
+                return true;
+            }
+        }
+        for (Map.Entry<Thread, DriverLease> entry : leases.entrySet()) {
+            DriverLease lease = entry.getValue();
+            if (!lease.isReleased() && lease.driver() == driver) {
+                lease.retire();
+                leases.remove(entry.getKey(), lease);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int activeLeases() {
+        return leases.size();
+    }
+
+    public void releaseAll() {
+        for (DriverLease lease : leases.values()) {
+            lease.close();
+        }
+        leases.clear();
+        for (DriverLease lease : shared) {
+            lease.close();
+        }
+        shared.clear();
+        idle.clear();
+    }
+}
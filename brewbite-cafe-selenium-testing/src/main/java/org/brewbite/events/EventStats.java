@@ -0,0 +1,111 @@
+package org.brewbite.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * What the page pushed out during one test: console errors, uncaught
+ * exceptions and DOM mutations, grouped into commits (one per
+ * {@code MutationObserver} callback, roughly one per React render that
+ * changed the DOM) and by the nearest element with an id.
+ */
+public final class EventStats {
+
+    public static final EventStats NONE = new EventStats(0, 0, 0, 0, 0, 0, List.of(), Map.of());
+
+    private static final int TOP_ELEMENTS_SHOWN = 3;
+
+    private final long sequence;
+    private final long consoleErrors;
+    private final long exceptions;
+    private final long commits;
+    private final long mutations;
+    private final long dropped;
+    private final List<String> messages;
+    private final Map<String, Long> mutationsByElement;
+
+    EventStats(long sequence, long consoleErrors, long exceptions, long commits, long mutations, long dropped,
+               List<String> messages, Map<String, Long> mutationsByElement) {
+        this.sequence = sequence;
+        this.consoleErrors = consoleErrors;
+        this.exceptions = exceptions;
+        this.commits = commits;
+        this.mutations = mutations;
+        this.dropped = dropped;
+        this.messages = messages;
+        this.mutationsByElement = mutationsByElement;
+    }
+
+    // Position in the session's message stream; messages after it belong to a later test
+    long getSequence() {
+        return sequence;
+    }
+
+    public long getConsoleErrors() {
+        return consoleErrors;
+    }
+
+    public long getExceptions() {
+        return exceptions;
+    }
+
+    public long getCommits() {
+        return commits;
+    }
+
+    public long getMutations() {
+        return mutations;
+    }
+
+    // Events lost because the buffer was full; counts are then lower bounds
+    public long getDropped() {
+        return dropped;
+    }
+
+    // Text of the most recent console errors and exceptions, oldest first
+    public List<String> getMessages() {
+        return Collections.unmodifiableList(messages);
+    }
+
+    // Element id -> mutations at or below it; "(page)" for nodes outside any element with an id
+    public Map<String, Long> getMutationsByElement() {
+        return Collections.unmodifiableMap(mutationsByElement);
+    }
+
+    public boolean isEmpty() {
+        return consoleErrors == 0 && exceptions == 0 && commits == 0;
+    }
+
+    // The elements with the most mutations, e.g. "reserve-button 118, menu-container 6"
+    public String topElements() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>(mutationsByElement.entrySet());
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        List<String> top = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : entries.subList(0, Math.min(TOP_ELEMENTS_SHOWN, entries.size()))) {
+            top.add(entry.getKey() + " " + entry.getValue());
+        }
+        return String.join(", ", top);
+    }
+
+    static Map<String, Long> minus(Map<String, Long> later, Map<String, Long> earlier) {
+        Map<String, Long> difference = new TreeMap<>();
+        for (Map.Entry<String, Long> entry : later.entrySet()) {
+            long count = entry.getValue() - earlier.getOrDefault(entry.getKey(), 0L);
+            if (count > 0) {
+                difference.put(entry.getKey(), count);
+            }
+        }
+        return difference;
+    }
+
+    // e.g. "1 console errors, 0 exceptions, 12 DOM commits (48 mutations)"
+    @Override
+    public String toString() {
+        return consoleErrors + " console errors, " + exceptions + " exceptions, "
+                + commits + " DOM commits (" + mutations + " mutations)"
+                + (dropped == 0 ? "" : ", " + dropped + " events dropped");
+    }
+}
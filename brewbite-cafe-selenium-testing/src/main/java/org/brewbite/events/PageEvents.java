@@ -0,0 +1,346 @@
+package org.brewbite.events;
+
+import org.brewbite.config.HarnessConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Push-based view of one browser session over DevTools: console errors
+ * ({@code Runtime.consoleAPICalled}, {@code Log.entryAdded}), uncaught
+ * exceptions ({@code Runtime.exceptionThrown}) and DOM mutations, which a
+ * {@code MutationObserver} injected into every new document reports through
+ * a {@code Runtime.addBinding} callback. Nothing is polled.
+ *
+ * DevTools events are only queued on the connection thread; one JVM-wide
+ * background thread parses and counts them. The queue and the message log
+ * are bounded, and events that do not fit are counted as dropped.
+ */
+public final class PageEvents {
+
+    public static final String ENABLED_KEY = "brewbite.events";
+    public static final String MAX_COMMITS_KEY = "brewbite.events.maxCommits";
+    public static final int DEFAULT_MAX_COMMITS = 25;
+
+    private static final String BINDING = "__brewbiteDom";
+    private static final int QUEUE_CAPACITY = 1024;
+    private static final int MESSAGES_KEPT = 50;
+    private static final int ELEMENTS_KEPT = 200;
+    private static final Duration FLUSH_WAIT = Duration.ofMillis(200);
+
+    // Reports every MutationObserver callback as {records, targets: {nearest id: count}}
+    private static final String OBSERVER_SCRIPT =
+            "(function () {" +
+                    "  if (window.__brewbiteObserver) { return; }" +
+                    "  window.__brewbiteObserver = new MutationObserver(function (records) {" +
+                    "    var targets = {}, keys = 0;" +
+                    "    for (var i = 0; i < records.length; i++) {" +
+                    "      var node = records[i].target;" +
+                    "      var element = node.nodeType === 1 ? node : node.parentElement;" +
+                    "      var owner = element && element.closest ? element.closest('[id]') : null;" +
+                    "      var key = owner ? owner.id : '(page)';" +
+                    "      if (!(key in targets) && keys++ >= 20) { key = '(other)'; }" +
+                    "      targets[key] = (targets[key] || 0) + 1;" +
+                    "    }" +
+                    "    if (typeof window." + BINDING + " === 'function') {" +
+                    "      window." + BINDING + "(JSON.stringify({ records: records.length, targets: targets }));" +
+                    "    }" +
+                    "  });" +
+                    "  window.__brewbiteObserver.observe(document," +
+                    "      { childList: true, subtree: true, attributes: true, characterData: true });" +
+                    "})();";
+
+    private static final Map<WebDriver, PageEvents> TAPS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static Integer maxCommits;
+
+    private static final ThreadPoolExecutor CONSUMER = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), task -> {
+                Thread thread = new Thread(task, "page-events");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final Json json = new Json();
+    private final AtomicLong queued = new AtomicLong();
+    // Guarded by this; waited on by flush() and awaitMutation()
+    private long processed;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong consoleErrors = new AtomicLong();
+    private final AtomicLong exceptions = new AtomicLong();
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong mutations = new AtomicLong();
+    private final Map<String, AtomicLong> mutationsByElement = new ConcurrentHashMap<>();
+    private final Deque<Message> messages = new ArrayDeque<>();
+    private long sequence;
+
+    private PageEvents() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(HarnessConfig.shared().get(ENABLED_KEY, "true"));
+    }
+
+    // Commits per test above which the test is flagged for render churn; read once
+    public static synchronized int maxCommits() {
+        if (maxCommits == null) {
+            maxCommits = HarnessConfig.shared().getInt(MAX_COMMITS_KEY, DEFAULT_MAX_COMMITS);
+        }
+        return maxCommits;
+    }
+
+    /**
+     * Subscribes to a freshly launched browser and returns it unchanged.
+     * Browsers without DevTools, or whose DevTools connection fails, run
+     * unobserved.
+     */
+    public static WebDriver attach(WebDriver driver) {
+        if (!isEnabled() || !(driver instanceof HasDevTools)) {
+            return driver;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            PageEvents events = new PageEvents();
+            events.start(devTools);
+            TAPS.put(driver, events);
+        } catch (WebDriverException e) {
+            System.out.println("Page events: not attached - " + e.getMessage());
+        }
+        return driver;
+    }
+
+    // Events of the session behind a (possibly decorated) driver, or null if it has none
+    public static PageEvents of(WebDriver driver) {
+        while (true) {
+            PageEvents events = TAPS.get(driver);
+            if (events != null || !(driver instanceof WrapsDriver)) {
+                return events;
+            }
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+    }
+
+    private void start(DevTools devTools) {
+        devTools.addListener(event("Runtime.consoleAPICalled"), params -> enqueue(() -> onConsole(params)));
+        devTools.addListener(event("Runtime.exceptionThrown"), params -> enqueue(() -> onException(params)));
+        devTools.addListener(event("Log.entryAdded"), params -> enqueue(() -> onLogEntry(params)));
+        devTools.addListener(event("Runtime.bindingCalled"), params -> enqueue(() -> onBinding(params)));
+        devTools.send(command("Runtime.enable", Map.of()));
+        devTools.send(command("Log.enable", Map.of()));
+        devTools.send(command("Runtime.addBinding", Map.of("name", BINDING)));
+        devTools.send(command("Page.addScriptToEvaluateOnNewDocument", Map.of("source", OBSERVER_SCRIPT)));
+    }
+
+    // Runs on the DevTools connection thread, so it only hands the event on
+    private void enqueue(Runnable handler) {
+        queued.incrementAndGet();
+        try {
+            CONSUMER.execute(() -> {
+                try {
+                    handler.run();
+                } finally {
+                    processed();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            dropped.incrementAndGet();
+            processed();
+        }
+    }
+
+    // Wakes flush() and awaitMutation() once per event handled
+    private synchronized void processed() {
+        processed++;
+        notifyAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onConsole(Map<String, Object> params) {
+        String type = String.valueOf(params.get("type"));
+        if (!"error".equals(type) && !"assert".equals(type)) {
+            return;
+        }
+        List<String> parts = new ArrayList<>();
+        for (Object arg : (List<Object>) params.getOrDefault("args", List.of())) {
+            Map<String, Object> remote = (Map<String, Object>) arg;
+            Object value = remote.containsKey("value") ? remote.get("value") : remote.get("description");
+            parts.add(String.valueOf(value));
+        }
+        consoleErrors.incrementAndGet();
+        log("console." + type + ": " + String.join(" ", parts));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onException(Map<String, Object> params) {
+        Map<String, Object> details = (Map<String, Object>) params.get("exceptionDetails");
+        Map<String, Object> exception = (Map<String, Object>) details.get("exception");
+        Object description = exception == null ? null : exception.get("description");
+        exceptions.incrementAndGet();
+        log("exception: " + (description == null ? details.get("text") : description));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onLogEntry(Map<String, Object> params) {
+        Map<String, Object> entry = (Map<String, Object>) params.get("entry");
+        String text = String.valueOf(entry.get("text"));
+        // Requests the NetworkTap blocks on purpose are not the page's fault
+        if (!"error".equals(entry.get("level")) || text.contains("ERR_BLOCKED_BY_CLIENT")) {
+            return;
+        }
+        consoleErrors.incrementAndGet();
+        log(entry.get("source") + ": " + text + (entry.get("url") == null ? "" : " (" + entry.get("url") + ")"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onBinding(Map<String, Object> params) {
+        if (!BINDING.equals(params.get("name"))) {
+            return;
+        }
+        Map<String, Object> payload;
+        try {
+            payload = json.toType((String) params.get("payload"), Json.MAP_TYPE);
+        } catch (JsonException e) {
+            return;
+        }
+        commits.incrementAndGet();
+        mutations.addAndGet(((Number) payload.get("records")).longValue());
+        for (Map.Entry<String, Object> target : ((Map<String, Object>) payload.get("targets")).entrySet()) {
+            String key = mutationsByElement.size() < ELEMENTS_KEPT || mutationsByElement.containsKey(target.getKey())
+                    ? target.getKey()
+                    : "(other)";
+            mutationsByElement.computeIfAbsent(key, k -> new AtomicLong())
+                    .addAndGet(((Number) target.getValue()).longValue());
+        }
+    }
+
+    private synchronized void log(String text) {
+        messages.addLast(new Message(++sequence, text));
+        if (messages.size() > MESSAGES_KEPT) {
+            messages.removeFirst();
+        }
+    }
+
+    // Waits briefly for events already received to be counted
+    private synchronized void flush() {
+        long target = queued.get();
+        long deadline = System.nanoTime() + FLUSH_WAIT.toNanos();
+        try {
+            while (processed < target) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Totals since the session started
+    public EventStats snapshot() {
+        flush();
+        synchronized (this) {
+            return new EventStats(sequence, consoleErrors.get(), exceptions.get(), commits.get(), mutations.get(),
+                    dropped.get(), List.of(), counts());
+        }
+    }
+
+    // Everything since an earlier snapshot, including the messages logged after it
+    public EventStats since(EventStats earlier) {
+        EventStats now = snapshot();
+        List<String> newer = new ArrayList<>();
+        synchronized (this) {
+            for (Message message : messages) {
+                if (message.sequence > earlier.getSequence()) {
+                    newer.add(message.text);
+                }
+            }
+        }
+        return new EventStats(now.getSequence(),
+                now.getConsoleErrors() - earlier.getConsoleErrors(),
+                now.getExceptions() - earlier.getExceptions(),
+                now.getCommits() - earlier.getCommits(),
+                now.getMutations() - earlier.getMutations(),
+                now.getDropped() - earlier.getDropped(),
+                newer,
+                EventStats.minus(now.getMutationsByElement(), earlier.getMutationsByElement()));
+    }
+
+    // Mutations at or below the element with the given id, counting every event received so far
+    public long mutationCount(String elementId) {
+        flush();
+        return counted(elementId);
+    }
+
+    private long counted(String elementId) {
+        AtomicLong count = mutationsByElement.get(elementId);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Blocks until the element with the given id has mutated past
+     * {@code baseline} (from {@link #mutationCount}), woken by the events
+     * themselves rather than by polling the browser.
+     */
+    public synchronized boolean awaitMutation(String elementId, long baseline, Duration timeout)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (counted(elementId) <= baseline) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    private Map<String, Long> counts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Map.Entry<String, AtomicLong> entry : mutationsByElement.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+        return counts;
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static Command<Map<String, Object>> command(String method, Map<String, Object> params) {
+        return new Command<>(method, params, Json.MAP_TYPE);
+    }
+
+    private static final class Message {
+        final long sequence;
+        final String text;
+
+        Message(long sequence, String text) {
+            this.sequence = sequence;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.brewbite.impact;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Files changed in the working tree relative to a git revision, with the
+ * changed line numbers of each file as they are now. Untracked files count
+ * as changed throughout.
+ */
+public final class ChangeSet {
+
+    private static final Pattern FILE = Pattern.compile("^diff --git a/.* b/(.*)$");
+    private static final String DELETED = "+++ /dev/null";
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@");
+    private static final long GIT_TIMEOUT_SECONDS = 30;
+
+    private final Path root;
+    private final Map<String, List<Integer>> changes;
+
+    ChangeSet(Path root, Map<String, List<Integer>> changes) {
+        this.root = root;
+        this.changes = changes;
+    }
+
+    /**
+     * Runs {@code git diff} against the revision from the repository that
+     * contains the current directory.
+     *
+     * @throws IllegalStateException if git is missing, fails or the revision is unknown
+     */
+    public static ChangeSet against(String revision) {
+        Path root = Paths.get(git(Paths.get("").toAbsolutePath(), "rev-parse", "--show-toplevel").trim());
+        Map<String, List<Integer>> changes = parse(
+                git(root, "diff", "--unified=0", "--no-color", "--no-renames", "--no-ext-diff", revision, "--"));
+        for (String untracked : git(root, "ls-files", "--others", "--exclude-standard").split("\n")) {
+            if (!untracked.isBlank()) {
+                changes.putIfAbsent(untracked.trim(), new ArrayList<>());
+            }
+        }
+        return new ChangeSet(root, changes);
+    }
+
+    /**
+     * File -> changed lines of the new version. A pure deletion marks the
+     * lines on either side of it; a deleted, renamed-only or binary file has
+     * no lines.
+     */
+    static Map<String, List<Integer>> parse(String diff) {
+        Map<String, List<Integer>> changes = new LinkedHashMap<>();
+        List<Integer> lines = null;
+        boolean header = false;
+        for (String line : diff.split("\n")) {
+            Matcher file = FILE.matcher(line);
+            if (file.matches()) {
+                lines = new ArrayList<>();
+                changes.put(file.group(1), lines);
+                header = true;
+                continue;
+            }
+            Matcher hunk = HUNK.matcher(line);
+            if (!hunk.find()) {
+                if (header && line.equals(DELETED)) {
+                    // Nothing is left of the file to mark
+                    lines = null;
+                }
+                continue;
+            }
+            header = false;
+            if (lines != null) {
+                int start = Integer.parseInt(hunk.group(1));
+                int count = hunk.group(2) == null ? 1 : Integer.parseInt(hunk.group(2));
+                if (count == 0) {
+                    // Line 0 means the deletion was at the top of the file
+                    if (start > 0) {
+                        lines.add(start);
+                    }
+                    lines.add(start + 1);
+                }
+                for (int i = 0; i < count; i++) {
+                    lines.add(start + i);
+                }
+            }
+        }
+        return changes;
+    }
+
+    private static String git(Path directory, String... args) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(Arrays.asList(args));
+        try {
+            Process process = new ProcessBuilder(command)
+                    .directory(directory.toFile())
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            String output;
+            try (InputStream in = process.getInputStream()) {
+                output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            if (!process.waitFor(GIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IllegalStateException(String.join(" ", command) + " timed out");
+            }
+            if (process.exitValue() != 0) {
+                throw new IllegalStateException(String.join(" ", command) + " exited with " + process.exitValue());
+            }
+            return output;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not run git: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running git", e);
+        }
+    }
+
+    // Repository root the file paths are relative to
+    public Path getRoot() {
+        return root;
+    }
+
+    // Changed files, relative to the repository root with forward slashes
+    public List<String> files() {
+        return new ArrayList<>(changes.keySet());
+    }
+
+    // Changed lines of a file in its current version; empty for untracked and binary files
+    public List<Integer> lines(String file) {
+        return changes.getOrDefault(file, List.of());
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+}
@@ -0,0 +1,150 @@
+package org.brewbite.impact;
+
+import org.brewbite.cases.TestCase;
+import org.brewbite.config.HarnessConfig;
+import org.brewbite.locate.Locator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Picks the cases a change can affect. With {@code brewbite.impact.base}
+ * set to a git revision (e.g. {@code origin/main}), the diff against it is
+ * mapped onto the {@link SourceRegions} of the landing page component, and
+ * only cases touching an element in a changed region run. Everything runs
+ * whenever the answer is not certain:
+ * <ul>
+ *   <li>a changed file other than the component, apart from documentation</li>
+ *   <li>a changed line outside every region (imports, state, menu data, the page wrapper)</li>
+ *   <li>a case that names no elements, or one whose element is not in any region</li>
+ *   <li>no changes at all, or git not answering</li>
+ * </ul>
+ */
+public final class ImpactSelector {
+
+    public static final String BASE_KEY = "brewbite.impact.base";
+    public static final String SOURCE_KEY = "brewbite.impact.source";
+    public static final String DEFAULT_SOURCE = "../selenium-testing-app/src/App.jsx";
+
+    // Changes to these never reach the browser
+    private static final List<String> IGNORED_SUFFIXES = List.of(".md");
+
+    private static ImpactSelector shared;
+
+    private final SourceRegions regions;
+    private final Set<String> changed;
+    private final String reason;
+
+    private ImpactSelector(SourceRegions regions, Set<String> changed, String reason) {
+        this.regions = regions;
+        this.changed = changed;
+        this.reason = reason;
+    }
+
+    // Runs everything
+    public static ImpactSelector all(String reason) {
+        return new ImpactSelector(null, null, reason);
+    }
+
+    public static synchronized ImpactSelector shared() {
+        if (shared == null) {
+            shared = fromConfig(HarnessConfig.shared());
+            System.out.println("Test impact: " + shared.reason);
+        }
+        return shared;
+    }
+
+    public static ImpactSelector fromConfig(HarnessConfig config) {
+        String base = config.get(BASE_KEY);
+        if (base == null) {
+            return all("no " + BASE_KEY + " set, running every case");
+        }
+        Path source = Paths.get(config.get(SOURCE_KEY, DEFAULT_SOURCE));
+        if (!Files.isRegularFile(source)) {
+            return all(source + " not found, running every case");
+        }
+        try {
+            return forChanges(ChangeSet.against(base), base, source);
+        } catch (IllegalStateException e) {
+            return all(e.getMessage() + ", running every case");
+        }
+    }
+
+    static ImpactSelector forChanges(ChangeSet changes, String base, Path source) {
+        if (changes.isEmpty()) {
+            return all("nothing changed since " + base + ", running every case");
+        }
+        String component;
+        try {
+            component = changes.getRoot().toRealPath().relativize(source.toRealPath()).toString().replace('\\', '/');
+        } catch (IOException e) {
+            return all("could not resolve " + source + ", running every case");
+        }
+
+        SourceRegions regions = SourceRegions.load(source);
+        Set<String> changed = new TreeSet<>();
+        for (String file : changes.files()) {
+            if (IGNORED_SUFFIXES.stream().anyMatch(file::endsWith)) {
+                continue;
+            }
+            if (!file.equals(component)) {
+                return all(file + " changed since " + base + ", running every case");
+            }
+            if (changes.lines(file).isEmpty()) {
+                return all(file + " changed without a line diff, running every case");
+            }
+            for (int line : changes.lines(file)) {
+                String region = regions.regionOf(line);
+                if (region == null) {
+                    return all(file + ":" + line + " is outside the page sections, running every case");
+                }
+                changed.add(region);
+            }
+        }
+        if (changed.isEmpty()) {
+            return new ImpactSelector(regions, changed, "only documentation changed since " + base);
+        }
+        return new ImpactSelector(regions, changed, "sections " + changed + " changed since " + base);
+    }
+
+    public List<TestCase> select(List<TestCase> cases) {
+        if (changed == null) {
+            return cases;
+        }
+        List<TestCase> selected = new ArrayList<>();
+        for (TestCase testCase : cases) {
+            if (isAffected(testCase)) {
+                selected.add(testCase);
+            }
+        }
+        return selected;
+    }
+
+    private boolean isAffected(TestCase testCase) {
+        if (testCase.getTouched().isEmpty()) {
+            return true;
+        }
+        for (Locator locator : testCase.getTouched()) {
+            String region = regions.regionOf(locator);
+            if (region == null || changed.contains(region)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Null when every case runs
+    public Set<String> getChangedRegions() {
+        return changed;
+    }
+
+    @Override
+    public String toString() {
+        return reason;
+    }
+}
@@ -0,0 +1,145 @@
+package org.brewbite.impact;
+
+import org.brewbite.locate.Locator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The landing page component split into source regions, one per top-level
+ * element that carries an id ({@code navbar}, {@code home}, {@code menu},
+ * ..., {@code footer}), and the region every id and class name used in the
+ * markup belongs to. A region runs from its element's opening line, or the
+ * JSX comment line just above it, to the element's closing tag. Lines outside
+ * all regions (imports, state, data, the page wrapper) belong to no region.
+ */
+public final class SourceRegions {
+
+    private static final Pattern ELEMENT = Pattern.compile("^(\\s*)<(\\w+)\\b.*?\\bid=\"([^\"]+)\"");
+    private static final Pattern ID = Pattern.compile("\\bid=\"([^\"]+)\"");
+    private static final Pattern CLASS_NAME = Pattern.compile("\\bclassName=\"([^\"]+)\"");
+    private static final Pattern JSX_COMMENT = Pattern.compile("^\\s*\\{/\\*.*\\*/}\\s*$");
+
+    private final List<Region> regions;
+    private final Map<String, String> owners;
+
+    private SourceRegions(List<Region> regions, Map<String, String> owners) {
+        this.regions = regions;
+        this.owners = owners;
+    }
+
+    public static SourceRegions load(Path source) {
+        try {
+            return parse(Files.readAllLines(source, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + source, e);
+        }
+    }
+
+    static SourceRegions parse(List<String> lines) {
+        // Top-level elements are the id-carrying ones with the least indentation
+        int topIndent = Integer.MAX_VALUE;
+        for (String line : lines) {
+            Matcher element = ELEMENT.matcher(line);
+            if (element.find()) {
+                topIndent = Math.min(topIndent, element.group(1).length());
+            }
+        }
+
+        List<Region> regions = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            Matcher element = ELEMENT.matcher(lines.get(i));
+            if (!element.find() || element.group(1).length() != topIndent) {
+                continue;
+            }
+            int first = i > 0 && JSX_COMMENT.matcher(lines.get(i - 1)).matches() ? i - 1 : i;
+            int last = closingLine(lines, i, element.group(1), element.group(2));
+            regions.add(new Region(element.group(3), first + 1, last + 1));
+            i = last;
+        }
+
+        Map<String, String> owners = new HashMap<>();
+        for (Region region : regions) {
+            for (int line = region.first; line <= region.last; line++) {
+                String text = lines.get(line - 1);
+                Matcher id = ID.matcher(text);
+                while (id.find()) {
+                    owners.putIfAbsent("#" + id.group(1), region.name);
+                }
+                Matcher classNames = CLASS_NAME.matcher(text);
+                while (classNames.find()) {
+                    for (String className : classNames.group(1).trim().split("\\s+")) {
+                        owners.putIfAbsent("." + className, region.name);
+                    }
+                }
+            }
+        }
+        return new SourceRegions(regions, owners);
+    }
+
+    // Line of the matching closing tag at the same indentation, or the opening line for self-closing elements
+    private static int closingLine(List<String> lines, int start, String indent, String tag) {
+        if (lines.get(start).trim().endsWith("/>")) {
+            return start;
+        }
+        for (int i = start + 1; i < lines.size(); i++) {
+            if (lines.get(i).startsWith(indent + "</" + tag + ">")) {
+                return i;
+            }
+        }
+        return start;
+    }
+
+    // Name of the region holding the 1-based line, or null if the line is outside every region
+    public String regionOf(int line) {
+        for (Region region : regions) {
+            if (line >= region.first && line <= region.last) {
+                return region.name;
+            }
+        }
+        return null;
+    }
+
+    // Region the locator's element is declared in, or null for tag names, selectors and unknown ids
+    public String regionOf(Locator locator) {
+        return owners.get(locator.getCssSelector());
+    }
+
+    public List<String> names() {
+        List<String> names = new ArrayList<>();
+        for (Region region : regions) {
+            names.add(region.name);
+        }
+        return names;
+    }
+
+    // e.g. "navbar 26-63, home 66-109, ..."
+    @Override
+    public String toString() {
+        List<String> parts = new ArrayList<>();
+        for (Region region : regions) {
+            parts.add(region.name + " " + region.first + "-" + region.last);
+        }
+        return String.join(", ", parts);
+    }
+
+    private static final class Region {
+        final String name;
+        final int first;
+        final int last;
+
+        Region(String name, int first, int last) {
+            this.name = name;
+            this.first = first;
+            this.last = last;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.brewbite.load;
+
+import org.brewbite.driver.DriverLease;
+import org.brewbite.driver.DriverPool;
+import org.brewbite.driver.LaunchProfile;
+import org.brewbite.pages.LandingPage;
+import org.brewbite.wait.WaitLog;
+import org.openqa.selenium.WebElement;
+
+/**
+ * The single-user journey of the suite - open the page, go to the menu,
+ * hover Reserve Table - run by many virtual users through a pool of headless
+ * browsers. A user holds a browser only for the length of one visit and
+ * thinks without one, so a few browsers serve many users; when all are busy
+ * the wait shows up as the {@code browser wait} step. Returning a browser to
+ * the pool resets it to {@code about:blank}, so every visit is a fresh load.
+ */
+final class BrowserJourney implements Journey {
+
+    private final String url;
+    private final LaunchProfile profile;
+    private final DriverPool pool;
+
+    private BrowserJourney(String url, LaunchProfile profile, DriverPool pool) {
+        this.url = url;
+        this.profile = profile;
+        this.pool = pool;
+    }
+
+    // Launches the browsers in the background; the first visits wait for them
+    static BrowserJourney start(String url, int browsers) {
+        LaunchProfile profile = LaunchProfile.ci();
+        DriverPool pool = new DriverPool(browsers, profile::launch);
+        pool.prewarm();
+        return new BrowserJourney(url, profile, pool);
+    }
+
+    @Override
+    public void visit(LoadStats stats) throws Exception {
+        // Waits go to a per-thread log that only the case engine clears, so keep it from growing over the run
+        WaitLog.current().clear();
+        long start = System.nanoTime();
+        try (DriverLease lease = pool.lease()) {
+            stats.record("browser wait", System.nanoTime() - start);
+            LandingPage page = new LandingPage(lease.driver());
+
+            stats.time("navigate", () -> page.open(url));
+            stats.time("open menu", () -> {
+                page.navigationBar().menuLink().click();
+                if (!page.waits().untilAtTop(page.menu().root(), page.navigationBar().root())) {
+                    throw new IllegalStateException("Menu section did not scroll to the top");
+                }
+                return null;
+            });
+            stats.time("hover reserve", () -> {
+                WebElement reserveButton = page.hero().reserveButton();
+                String initialColor = page.waits().computedStyle(reserveButton, "background-color");
+                page.hover(reserveButton);
+                if (initialColor.equals(page.waits().untilStyleChanges(reserveButton, "background-color", initialColor))) {
+                    throw new IllegalStateException("Reserve button did not change colour on hover");
+                }
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+        profile.deleteUserDataDirs();
+        System.out.println("Load browsers: " + pool.stats());
+    }
+}
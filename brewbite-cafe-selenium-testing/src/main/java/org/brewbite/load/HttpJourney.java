@@ -0,0 +1,104 @@
+package org.brewbite.load;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The static asset path of a visit without a browser: fetch the HTML, then
+ * every script, stylesheet and image it references, all at once the way a
+ * browser would. Far cheaper per virtual user than a real browser, so it
+ * loads the server with hundreds of users where the browser journey cannot;
+ * it says nothing about rendering or script time.
+ */
+final class HttpJourney implements Journey {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    // Same-origin references in the built index.html, e.g. src="/assets/index-3f2a.js"
+    private static final Pattern ASSET = Pattern.compile("(?:src|href)=\"(/[^\"]+)\"");
+
+    private final URI base;
+    private final HttpClient client;
+
+    HttpJourney(String url) {
+        this.base = URI.create(url);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    @Override
+    public void visit(LoadStats stats) throws Exception {
+        String html = stats.time("html", () -> {
+            HttpResponse<byte[]> response = client.send(request(base), HttpResponse.BodyHandlers.ofByteArray());
+            check(response);
+            return text(response);
+        });
+
+        Set<String> paths = new LinkedHashSet<>();
+        Matcher matcher = ASSET.matcher(html);
+        while (matcher.find()) {
+            paths.add(matcher.group(1));
+        }
+        stats.time("assets", () -> {
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>();
+            for (String path : paths) {
+                responses.add(client.sendAsync(request(base.resolve(path)), HttpResponse.BodyHandlers.discarding()));
+            }
+            try {
+                for (CompletableFuture<HttpResponse<Void>> response : responses) {
+                    check(response.get());
+                }
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+            return null;
+        });
+    }
+
+    private static HttpRequest request(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+    }
+
+    // The server gzips whatever a browser would accept gzipped
+    private static String text(HttpResponse<byte[]> response) throws IOException {
+        byte[] body = response.body();
+        if (response.headers().firstValue("Content-Encoding").filter("gzip"::equalsIgnoreCase).isPresent()) {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                body = in.readAllBytes();
+            }
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static void check(HttpResponse<?> response) {
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("HTTP " + response.statusCode() + " for " + response.uri());
+        }
+    }
+
+    @Override
+    public void close() {
+        // HttpClient has no close() before Java 21; its connections go once it is unreachable
+    }
+}
@@ -0,0 +1,16 @@
+package org.brewbite.load;
+
+/**
+ * What a virtual user does on one visit to the landing page. One instance
+ * is shared by every virtual user of a {@link LoadRun}, so implementations
+ * are thread-safe and keep per-visit state on the stack.
+ */
+public interface Journey extends AutoCloseable {
+
+    // One visit; each step is timed through the stats, and a failed step ends the visit by throwing
+    void visit(LoadStats stats) throws Exception;
+
+    // Releases whatever the journey holds, e.g. its browsers
+    @Override
+    void close();
+}
@@ -0,0 +1,88 @@
+package org.brewbite.load;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latencies of one step, recorded lock-free from any number of virtual
+ * users. Values are counted in buckets of microseconds that double in width
+ * every 32 buckets (exact below 64 us, within about 3% above), so memory is
+ * fixed however many samples a run takes and percentiles need no sorting.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 32;
+    private static final int LINEAR_LIMIT = 2 * SUB_BUCKETS;
+    // Enough buckets for anything up to Long.MAX_VALUE microseconds
+    private static final int BUCKETS = (64 - 5) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts.incrementAndGet(index(micros));
+        count.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    static int index(long micros) {
+        if (micros < LINEAR_LIMIT) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - 5;
+        return shift * SUB_BUCKETS + (int) (micros >> shift);
+    }
+
+    // Largest value that falls into the bucket
+    static long upperBound(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long low = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return low + (1L << shift) - 1;
+    }
+
+    long count() {
+        return count.get();
+    }
+
+    // Value at the given percentile (0-100) in milliseconds, 0 without samples
+    double percentile(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxMicros.get()) / 1000.0;
+            }
+        }
+        return maxMicros.get() / 1000.0;
+    }
+
+    double meanMillis() {
+        long total = count.get();
+        return total == 0 ? 0 : totalMicros.get() / 1000.0 / total;
+    }
+
+    double maxMillis() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    // e.g. "p50 182.0 ms, p95 410.5 ms, p99 655.0 ms, max 702.1 ms (1200 samples)"
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "p50 %.1f ms, p95 %.1f ms, p99 %.1f ms, max %.1f ms (%d samples)",
+                percentile(50), percentile(95), percentile(99), maxMillis(), count());
+    }
+}
@@ -0,0 +1,232 @@
+package org.brewbite.load;
+
+import org.brewbite.cases.CaseThreads;
+import org.brewbite.config.HarnessConfig;
+import org.brewbite.report.RunReport;
+import org.brewbite.server.StaticSiteServer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Many concurrent synthetic visitors on the landing page, served by the
+ * embedded {@link StaticSiteServer} from the local app build, so no outside
+ * service is involved. {@code brewbite.load} picks the {@link Journey}:
+ * {@code browser} runs the suite's journey in a pool of headless browsers,
+ * {@code http} only fetches the page and its assets.
+ *
+ * {@code brewbite.load.users} virtual users start evenly spread over
+ * {@code brewbite.load.rampUp}, then keep visiting for
+ * {@code brewbite.load.duration}, pausing {@code brewbite.load.thinkTime}
+ * (plus or minus half, at random) between visits. Every step's latency goes
+ * into a fixed-size histogram; the run ends with p50/p95/p99 per step on
+ * the console and in {@code <run>-load.csv} next to the run report.
+ *
+ * Each user is a virtual thread where the JVM has them (Java 21+), following
+ * {@code brewbite.threads} like the cases do ({@link CaseThreads}); before
+ * Java 21, or with {@code brewbite.threads=platform}, each user gets a
+ * platform thread.
+ */
+public final class LoadRun {
+
+    public static final String MODE_KEY = "brewbite.load";
+    public static final String USERS_KEY = "brewbite.load.users";
+    public static final String DURATION_KEY = "brewbite.load.duration";
+    public static final String RAMP_UP_KEY = "brewbite.load.rampUp";
+    public static final String THINK_TIME_KEY = "brewbite.load.thinkTime";
+    public static final String BROWSERS_KEY = "brewbite.load.browsers";
+
+    public enum Mode { BROWSER, HTTP }
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+    private static final String CSV_HEADER = "step,count,errors,meanMillis,p50Millis,p95Millis,p99Millis,maxMillis";
+
+    private final Mode mode;
+    private final int users;
+    private final Duration duration;
+    private final Duration rampUp;
+    private final Duration thinkTime;
+    private final int browsers;
+
+    LoadRun(Mode mode, int users, Duration duration, Duration rampUp, Duration thinkTime, int browsers) {
+        if (users < 1 || browsers < 1) {
+            throw new IllegalArgumentException("A load run needs at least one user and one browser, got "
+                    + users + " users and " + browsers + " browsers");
+        }
+        this.mode = mode;
+        this.users = users;
+        this.duration = duration;
+        this.rampUp = rampUp;
+        this.thinkTime = thinkTime;
+        this.browsers = browsers;
+    }
+
+    // Load settings from the config, or null unless brewbite.load is set
+    public static LoadRun fromConfig(HarnessConfig config) {
+        String mode = config.get(MODE_KEY);
+        if (mode == null) {
+            return null;
+        }
+        Mode parsed;
+        try {
+            parsed = Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(MODE_KEY + " must be browser or http, got '" + mode + "'");
+        }
+        return new LoadRun(parsed,
+                config.getInt(USERS_KEY, 50),
+                config.getDuration(DURATION_KEY, Duration.ofMinutes(1)),
+                config.getDuration(RAMP_UP_KEY, Duration.ofSeconds(10)),
+                config.getDuration(THINK_TIME_KEY, Duration.ofSeconds(1)),
+                config.getInt(BROWSERS_KEY, 4));
+    }
+
+    /**
+     * Runs the load and returns its stats once every user has finished its
+     * last visit.
+     */
+    public LoadStats run() {
+        StaticSiteServer server = StaticSiteServer.shared();
+        if (server == null) {
+            throw new IllegalStateException("Load runs need the app build in " + StaticSiteServer.siteDir()
+                    + " - run 'npm run build' in selenium-testing-app first");
+        }
+        System.out.println("Load run: " + this + " against " + server.baseUrl()
+                + (CaseThreads.useVirtual() ? ", on virtual threads" : ""));
+
+        LoadStats stats = new LoadStats();
+        AtomicInteger active = new AtomicInteger();
+        long start = System.nanoTime();
+        long end = start + rampUp.toNanos() + duration.toNanos();
+
+        ExecutorService userThreads = userThreads();
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "load-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        progress.scheduleAtFixedRate(() -> System.out.println(progressLine(stats, active.get(), start)),
+                PROGRESS_INTERVAL.toMillis(), PROGRESS_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        try (Journey journey = mode == Mode.BROWSER ? BrowserJourney.start(server.baseUrl(), browsers)
+                : new HttpJourney(server.baseUrl())) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int user = 0; user < users; user++) {
+                long startAt = start + rampUp.toNanos() * user / users;
+                running.add(userThreads.submit(() -> {
+                    visitUntil(journey, stats, active, startAt, end);
+                    return null;
+                }));
+            }
+            for (Future<?> user : running) {
+                user.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the load", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Virtual user failed", e.getCause());
+        } finally {
+            progress.shutdownNow();
+            userThreads.shutdownNow();
+        }
+
+        System.out.println(progressLine(stats, 0, start) + "\n" + stats.table());
+        writeCsv(stats);
+        return stats;
+    }
+
+    // Users mostly sleep or wait on a browser or socket, which costs a virtual thread next to nothing
+    private ExecutorService userThreads() {
+        if (CaseThreads.useVirtual()) {
+            return CaseThreads.perTaskExecutor("virtual-user-");
+        }
+        AtomicInteger threads = new AtomicInteger();
+        return Executors.newFixedThreadPool(users, task -> {
+            Thread thread = new Thread(task, "virtual-user-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // One virtual user: waits for its ramp-up slot, then visits and thinks until the run ends
+    private void visitUntil(Journey journey, LoadStats stats, AtomicInteger active, long startAt, long end)
+            throws InterruptedException {
+        sleepNanos(startAt - System.nanoTime());
+        active.incrementAndGet();
+        try {
+            while (System.nanoTime() < end) {
+                boolean passed = false;
+                try {
+                    journey.visit(stats);
+                    passed = true;
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception | AssertionError e) {
+                    // Counted against the step that failed; the user carries on like a visitor who reloads
+                }
+                stats.visited(passed);
+                long think = thinkTime.toNanos();
+                sleepNanos(Math.min(end - System.nanoTime(),
+                        think / 2 + (think == 0 ? 0 : ThreadLocalRandom.current().nextLong(think))));
+            }
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    private static void sleepNanos(long nanos) throws InterruptedException {
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+
+    // e.g. "Load: 50 users active, 1210 visits (3 failed), 20.2 visits/s"
+    private static String progressLine(LoadStats stats, int active, long start) {
+        double seconds = Math.max(1e-9, (System.nanoTime() - start) / 1e9);
+        return String.format(Locale.ROOT, "Load: %d users active, %d visits (%d failed), %.1f visits/s",
+                active, stats.visits(), stats.failedVisits(), stats.visits() / seconds);
+    }
+
+    private static void writeCsv(LoadStats stats) {
+        Path directory = RunReport.shared().directory();
+        Path file = directory.resolve(RunReport.shared().fileStem() + "-load.csv");
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (String row : stats.csvRows()) {
+            csv.append(row).append('\n');
+        }
+        try {
+            Files.createDirectories(directory);
+            Files.write(file, csv.toString().getBytes(StandardCharsets.UTF_8));
+            System.out.println("Load report: " + file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write load report to " + file, e);
+        }
+    }
+
+    // e.g. "browser, 50 users over 10s for 1m, think 1s, 4 browsers"
+    @Override
+    public String toString() {
+        return mode.name().toLowerCase(Locale.ROOT) + ", " + users + " users over " + format(rampUp)
+                + " for " + format(duration) + ", think " + format(thinkTime)
+                + (mode == Mode.BROWSER ? ", " + browsers + " browsers" : "");
+    }
+
+    private static String format(Duration duration) {
+        return duration.toString().substring(2).toLowerCase(Locale.ROOT);
+    }
+}
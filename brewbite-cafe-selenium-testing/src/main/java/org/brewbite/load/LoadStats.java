@@ -0,0 +1,100 @@
+package org.brewbite.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Step latencies and errors of a load run, shared by every virtual user.
+ * Steps are reported in the order they first ran.
+ */
+public final class LoadStats {
+
+    private final Map<String, Step> steps = new ConcurrentHashMap<>();
+    private final List<String> order = new CopyOnWriteArrayList<>();
+    private final AtomicLong visits = new AtomicLong();
+    private final AtomicLong failedVisits = new AtomicLong();
+
+    /**
+     * Times one step of a visit. A step that throws counts as an error, and
+     * its latency is recorded all the same, since slow failures are part of
+     * what the user saw.
+     */
+    public <T> T time(String step, Callable<T> action) throws Exception {
+        Step stats = step(step);
+        long start = System.nanoTime();
+        try {
+            return action.call();
+        } catch (Exception | AssertionError e) {
+            stats.errors.incrementAndGet();
+            stats.lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            throw e;
+        } finally {
+            stats.latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    // Records a latency measured elsewhere, e.g. the wait for a pooled browser
+    public void record(String step, long nanos) {
+        step(step).latencies.record(nanos);
+    }
+
+    void visited(boolean passed) {
+        visits.incrementAndGet();
+        if (!passed) {
+            failedVisits.incrementAndGet();
+        }
+    }
+
+    private Step step(String name) {
+        return steps.computeIfAbsent(name, key -> {
+            order.add(key);
+            return new Step();
+        });
+    }
+
+    public long visits() {
+        return visits.get();
+    }
+
+    public long failedVisits() {
+        return failedVisits.get();
+    }
+
+    // One CSV row per step: step,count,errors,meanMillis,p50Millis,p95Millis,p99Millis,maxMillis
+    List<String> csvRows() {
+        List<String> rows = new ArrayList<>();
+        for (String name : order) {
+            LatencyHistogram latencies = steps.get(name).latencies;
+            rows.add(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.1f,%.1f,%.1f,%.1f", name, latencies.count(),
+                    steps.get(name).errors.get(), latencies.meanMillis(), latencies.percentile(50),
+                    latencies.percentile(95), latencies.percentile(99), latencies.maxMillis()));
+        }
+        return rows;
+    }
+
+    // One line per step, e.g. "  navigate     p50 182.0 ms, p95 410.5 ms, p99 655.0 ms, max 702.1 ms (1200 samples), 3 errors"
+    String table() {
+        StringBuilder table = new StringBuilder();
+        for (String name : order) {
+            Step step = steps.get(name);
+            table.append(String.format(Locale.ROOT, "  %-14s %s", name, step.latencies));
+            if (step.errors.get() > 0) {
+                table.append(", ").append(step.errors).append(" errors, last: ").append(step.lastError);
+            }
+            table.append('\n');
+        }
+        return table.toString();
+    }
+
+    private static final class Step {
+        final LatencyHistogram latencies = new LatencyHistogram();
+        final AtomicLong errors = new AtomicLong();
+        volatile String lastError;
+    }
+}
@@ -0,0 +1,72 @@
+package org.brewbite.locate;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.FluentWait;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resolves {@link Locator}s using each locator's own budget and polling
+ * interval. This replaces the driver-wide implicit wait, which made every
+ * missing element cost the full 10 seconds; sessions are expected to run
+ * with an implicit wait of zero so that {@link #isAbsent} returns at once.
+ */
+public class Finder {
+
+    private final WebDriver driver;
+
+    public Finder(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public WebElement find(Locator locator) {
+        return find(driver, locator);
+    }
+
+    // Looks up the locator beneath another element, e.g. the name inside a menu card
+    public WebElement find(SearchContext context, Locator locator) {
+        long start = System.nanoTime();
+        try {
+            return waitFor(context, locator).until(c -> c.findElement(locator.getBy()));
+        } catch (TimeoutException e) {
+            throw new LocatorTimeoutException(locator, Duration.ofNanos(System.nanoTime() - start), e.getCause());
+        }
+    }
+
+    /**
+     * Polls until at least one element matches or the budget runs out.
+     * Returns an empty list rather than throwing, so callers can assert on
+     * the count themselves.
+     */
+    public List<WebElement> findAll(Locator locator) {
+        try {
+            return waitFor(driver, locator).until(c -> {
+                List<WebElement> elements = c.findElements(locator.getBy());
+                return elements.isEmpty() ? null : elements;
+            });
+        } catch (TimeoutException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    // Single lookup without polling: absence is confirmed immediately
+    public boolean isAbsent(Locator locator) {
+        return driver.findElements(locator.getBy()).isEmpty();
+    }
+
+    public boolean isPresent(Locator locator) {
+        return !isAbsent(locator);
+    }
+
+    private FluentWait<SearchContext> waitFor(SearchContext context, Locator locator) {
+        return new FluentWait<>(context)
+                .withTimeout(locator.getBudget())
+                .pollingEvery(locator.getPolling())
+                .ignoring(NoSuchElementException.class);
+    }
+}
@@ -0,0 +1,53 @@
+package org.brewbite.locate;
+
+/**
+ * Every element of the Brew &amp; Bite landing page the suites look up, with
+ * its lookup budget. Top-level sections get the default budget because
+ * React may still be rendering right after navigation; parts of a menu card
+ * are looked up beneath an already found card and so must exist at once.
+ */
+public final class LandingPageLocators {
+
+    // Navigation Bar
+    public static final Locator NAVBAR = Locator.id("navbar");
+    public static final Locator NAV_HOME = Locator.id("nav-home");
+    public static final Locator NAV_MENU = Locator.id("nav-menu");
+    public static final Locator NAV_ABOUT = Locator.id("nav-about");
+    public static final Locator NAV_CONTACT = Locator.id("nav-contact");
+
+    // Hero Section
+    public static final Locator HERO_SECTION = Locator.id("home");
+    public static final Locator CAFE_NAME = Locator.id("cafe-name");
+    public static final Locator TAGLINE = Locator.id("tagline");
+    public static final Locator RESERVE_BUTTON = Locator.id("reserve-button");
+
+    // Menu Section
+    public static final Locator MENU_SECTION = Locator.id("menu");
+    public static final Locator MENU_CONTAINER = Locator.id("menu-container");
+    public static final Locator MENU_ITEMS = Locator.className("menu-item");
+    public static final Locator MENU_ITEM_NAME = Locator.className("menu-item-name").immediate();
+    public static final Locator MENU_ITEM_PRICE = Locator.className("menu-item-price").immediate();
+    public static final Locator MENU_ITEM_IMAGE = Locator.className("menu-item-image").immediate();
+
+    // About Us Section
+    public static final Locator ABOUT_SECTION = Locator.id("about");
+    public static final Locator ABOUT_TEXT = Locator.id("about-text");
+
+    // Contact Section
+    public static final Locator CONTACT_SECTION = Locator.id("contact");
+    public static final Locator CONTACT_EMAIL = Locator.id("contact-email");
+    public static final Locator CONTACT_PHONE = Locator.id("contact-phone");
+
+    // Footer
+    public static final Locator FOOTER = Locator.id("footer");
+    public static final Locator COPYRIGHT_TEXT = Locator.id("copyright-text");
+
+    // Page-wide
+    public static final Locator BODY = Locator.tagName("body");
+    public static final Locator H1 = Locator.tagName("h1");
+    public static final Locator H2 = Locator.tagName("h2");
+    public static final Locator H3 = Locator.tagName("h3");
+
+    private LandingPageLocators() {
+    }
+}
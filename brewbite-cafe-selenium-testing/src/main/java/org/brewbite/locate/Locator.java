@@ -0,0 +1,85 @@
+package org.brewbite.locate;
+
+import org.openqa.selenium.By;
+import java.time.Duration;
+
+/**
+ * A {@link By} together with its lookup policy: how long a {@link Finder}
+ * may keep polling for the element and how often. Locators are immutable;
+ * {@link #within} and {@link #polling} return adjusted copies.
+ */
+public final class Locator {
+
+    public static final Duration DEFAULT_BUDGET = Duration.ofSeconds(2);
+    public static final Duration DEFAULT_POLLING = Duration.ofMillis(50);
+
+    private final String name;
+    private final By by;
+    private final String cssSelector;
+    private final Duration budget;
+    private final Duration polling;
+
+    private Locator(String name, By by, String cssSelector, Duration budget, Duration polling) {
+        this.name = name;
+        this.by = by;
+        this.cssSelector = cssSelector;
+        this.budget = budget;
+        this.polling = polling;
+    }
+
+    public static Locator id(String id) {
+        return new Locator(id, By.id(id), "#" + id, DEFAULT_BUDGET, DEFAULT_POLLING);
+    }
+
+    public static Locator className(String className) {
+        return new Locator("." + className, By.className(className), "." + className,
+                DEFAULT_BUDGET, DEFAULT_POLLING);
+    }
+
+    public static Locator tagName(String tagName) {
+        return new Locator(tagName, By.tagName(tagName), tagName, DEFAULT_BUDGET, DEFAULT_POLLING);
+    }
+
+    public static Locator css(String selector) {
+        return new Locator(selector, By.cssSelector(selector), selector, DEFAULT_BUDGET, DEFAULT_POLLING);
+    }
+
+    public Locator within(Duration budget) {
+        return new Locator(name, by, cssSelector, budget, polling);
+    }
+
+    public Locator polling(Duration polling) {
+        return new Locator(name, by, cssSelector, budget, polling);
+    }
+
+    // Single attempt with no polling, for elements that must already exist (e.g. children of a found card)
+    public Locator immediate() {
+        return within(Duration.ZERO);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public By getBy() {
+        return by;
+    }
+
+    // Equivalent CSS selector, used by scripts that query the DOM directly
+    public String getCssSelector() {
+        return cssSelector;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+
+    public Duration getPolling() {
+        return polling;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + by + ", budget " + budget.toMillis() + " ms, polling " + polling.toMillis() + " ms)";
+    }
+}
@@ -0,0 +1,29 @@
+package org.brewbite.locate;
+
+import org.openqa.selenium.NoSuchElementException;
+import java.time.Duration;
+
+/**
+ * Thrown when a {@link Locator} found nothing within its budget. The message
+ * states how long the lookup really took so slow failures are visible in
+ * the test output.
+ */
+public class LocatorTimeoutException extends NoSuchElementException {
+
+    private final Locator locator;
+    private final Duration elapsed;
+
+    public LocatorTimeoutException(Locator locator, Duration elapsed, Throwable cause) {
+        super("Element " + locator + " not found after " + elapsed.toMillis() + " ms", cause);
+        this.locator = locator;
+        this.elapsed = elapsed;
+    }
+
+    public Locator getLocator() {
+        return locator;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+}
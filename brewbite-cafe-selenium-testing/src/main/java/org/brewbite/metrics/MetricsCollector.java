@@ -0,0 +1,84 @@
+package org.brewbite.metrics;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Reads Navigation Timing, Paint Timing, Largest Contentful Paint, layout
+ * shifts and long tasks for the current document in one
+ * {@code executeAsyncScript} call. LCP, layout shifts and long tasks come
+ * from buffered {@code PerformanceObserver}s, so they cover the whole load
+ * even though the observers are registered afterwards.
+ *
+ * If the document is still loading, the script first waits for its
+ * {@code load} event (within the budget).
+ */
+public class MetricsCollector {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final String COLLECT_SCRIPT =
+            "var timeout = arguments[0];" +
+                    "var done = arguments[arguments.length - 1];" +
+                    "var result = { largestContentfulPaint: null, cumulativeLayoutShift: 0, longTasks: 0, totalBlockingTime: 0 };" +
+                    "var observers = [];" +
+                    "var observe = function (type, onEntry) {" +
+                    "  try {" +
+                    "    var o = new PerformanceObserver(function (list) { list.getEntries().forEach(onEntry); });" +
+                    "    o.observe({ type: type, buffered: true });" +
+                    "    observers.push({ observer: o, onEntry: onEntry });" +
+                    "  } catch (e) { /* entry type not supported by this browser */ }" +
+                    "};" +
+                    "var sent = false;" +
+                    "var collect = function () {" +
+                    "  if (sent) { return; }" +
+                    "  sent = true;" +
+                    "  observers.forEach(function (o) { o.observer.takeRecords().forEach(o.onEntry); o.observer.disconnect(); });" +
+                    "  var nav = performance.getEntriesByType('navigation')[0];" +
+                    "  if (nav) {" +
+                    "    result.ttfb = nav.responseStart;" +
+                    "    result.domContentLoaded = nav.domContentLoadedEventEnd;" +
+                    "    result.load = nav.loadEventEnd;" +
+                    "    result.transferSize = nav.transferSize;" +
+                    "  }" +
+                    "  performance.getEntriesByType('paint').forEach(function (e) {" +
+                    "    if (e.name === 'first-paint') { result.firstPaint = e.startTime; }" +
+                    "    if (e.name === 'first-contentful-paint') { result.firstContentfulPaint = e.startTime; }" +
+                    "  });" +
+                    "  done(result);" +
+                    "};" +
+                    "var measure = function () {" +
+                    "  observe('largest-contentful-paint', function (e) { result.largestContentfulPaint = e.renderTime || e.loadTime || e.startTime; });" +
+                    "  observe('layout-shift', function (e) { if (!e.hadRecentInput) { result.cumulativeLayoutShift += e.value; } });" +
+                    "  observe('longtask', function (e) { result.longTasks++; result.totalBlockingTime += Math.max(0, e.duration - 50); });" +
+                    // Buffered entries are delivered asynchronously; two frames later they have all arrived
+                    "  requestAnimationFrame(function () { requestAnimationFrame(collect); });" +
+                    "  setTimeout(collect, 100);" +
+                    "};" +
+                    "var started = false;" +
+                    "var start = function () { if (!started) { started = true; measure(); } };" +
+                    "if (document.readyState === 'complete') { start(); }" +
+                    // loadEventEnd is only set once the load handlers have returned
+                    "else { window.addEventListener('load', function () { setTimeout(start, 0); }); setTimeout(start, timeout); }";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+
+    public MetricsCollector(WebDriver driver) {
+        this(driver, DEFAULT_TIMEOUT);
+    }
+
+    public MetricsCollector(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    @SuppressWarnings("unchecked")
+    public PageMetrics collect() {
+        Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeAsyncScript(COLLECT_SCRIPT, timeout.toMillis());
+        return new PageMetrics(raw);
+    }
+}
@@ -0,0 +1,94 @@
+package org.brewbite.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load and rendering metrics of the document currently in the browser, as
+ * collected by {@link MetricsCollector}. Times are milliseconds since the
+ * start of navigation; a value of {@code -1} means the browser did not
+ * report that metric (e.g. no LCP candidate yet).
+ */
+public final class PageMetrics {
+
+    private final double timeToFirstByte;
+    private final double domContentLoaded;
+    private final double load;
+    private final double firstPaint;
+    private final double firstContentfulPaint;
+    private final double largestContentfulPaint;
+    private final double cumulativeLayoutShift;
+    private final int longTasks;
+    private final double totalBlockingTime;
+    private final long transferSize;
+
+    PageMetrics(Map<String, Object> raw) {
+        this.timeToFirstByte = number(raw, "ttfb");
+        this.domContentLoaded = number(raw, "domContentLoaded");
+        this.load = number(raw, "load");
+        this.firstPaint = number(raw, "firstPaint");
+        this.firstContentfulPaint = number(raw, "firstContentfulPaint");
+        this.largestContentfulPaint = number(raw, "largestContentfulPaint");
+        this.cumulativeLayoutShift = Math.max(0, number(raw, "cumulativeLayoutShift"));
+        this.longTasks = (int) Math.max(0, number(raw, "longTasks"));
+        this.totalBlockingTime = Math.max(0, number(raw, "totalBlockingTime"));
+        this.transferSize = (long) Math.max(0, number(raw, "transferSize"));
+    }
+
+    private static double number(Map<String, Object> raw, String key) {
+        Object value = raw.get(key);
+        return value instanceof Number ? ((Number) value).doubleValue() : -1;
+    }
+
+    public double getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    public double getDomContentLoaded() {
+        return domContentLoaded;
+    }
+
+    public double getLoad() {
+        return load;
+    }
+
+    public double getFirstPaint() {
+        return firstPaint;
+    }
+
+    public double getFirstContentfulPaint() {
+        return firstContentfulPaint;
+    }
+
+    public double getLargestContentfulPaint() {
+        return largestContentfulPaint;
+    }
+
+    // Sum of layout-shift scores without recent user input
+    public double getCumulativeLayoutShift() {
+        return cumulativeLayoutShift;
+    }
+
+    // Tasks over 50 ms on the main thread
+    public int getLongTasks() {
+        return longTasks;
+    }
+
+    // Sum of the part of each long task beyond 50 ms
+    public double getTotalBlockingTime() {
+        return totalBlockingTime;
+    }
+
+    // Bytes of the HTML document itself, 0 when served from cache
+    public long getTransferSize() {
+        return transferSize;
+    }
+
+    // e.g. "TTFB 4 ms, FCP 92 ms, LCP 140 ms, CLS 0.000, load 130 ms, 0 long tasks (TBT 0 ms)"
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "TTFB %.0f ms, FCP %.0f ms, LCP %.0f ms, CLS %.3f, load %.0f ms, %d long tasks (TBT %.0f ms)",
+                timeToFirstByte, firstContentfulPaint, largestContentfulPaint, cumulativeLayoutShift,
+                load, longTasks, totalBlockingTime);
+    }
+}
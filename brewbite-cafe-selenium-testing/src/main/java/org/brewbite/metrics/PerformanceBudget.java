@@ -0,0 +1,120 @@
+package org.brewbite.metrics;
+
+import org.brewbite.config.HarnessConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Upper limits for {@link PageMetrics}. {@link #assertWithin} reports every
+ * exceeded limit in a single {@link AssertionError}, so one run shows all
+ * regressions at once. Metrics the browser did not report are not checked.
+ *
+ * <pre>
+ * PerformanceBudget.fromConfig(HarnessConfig.shared())
+ *         .largestContentfulPaint(1500)
+ *         .assertWithin(metrics);
+ * </pre>
+ */
+public final class PerformanceBudget {
+
+    public static final String FCP_KEY = "brewbite.budget.fcp";
+    public static final String LCP_KEY = "brewbite.budget.lcp";
+    public static final String CLS_KEY = "brewbite.budget.cls";
+    public static final String TBT_KEY = "brewbite.budget.tbt";
+    public static final String LOAD_KEY = "brewbite.budget.load";
+
+    // Web Vitals "good" thresholds; load has no standard value and is unchecked by default
+    private static final double DEFAULT_FCP = 1800;
+    private static final double DEFAULT_LCP = 2500;
+    private static final double DEFAULT_CLS = 0.1;
+    private static final double DEFAULT_TBT = 200;
+
+    private final double firstContentfulPaint;
+    private final double largestContentfulPaint;
+    private final double cumulativeLayoutShift;
+    private final double totalBlockingTime;
+    private final double load;
+
+    private PerformanceBudget(double firstContentfulPaint, double largestContentfulPaint,
+                              double cumulativeLayoutShift, double totalBlockingTime, double load) {
+        this.firstContentfulPaint = firstContentfulPaint;
+        this.largestContentfulPaint = largestContentfulPaint;
+        this.cumulativeLayoutShift = cumulativeLayoutShift;
+        this.totalBlockingTime = totalBlockingTime;
+        this.load = load;
+    }
+
+    // No limits at all
+    public static PerformanceBudget none() {
+        return new PerformanceBudget(Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE);
+    }
+
+    // brewbite.budget.* values, defaulting to the Web Vitals "good" thresholds
+    public static PerformanceBudget fromConfig(HarnessConfig config) {
+        return new PerformanceBudget(
+                limit(config, FCP_KEY, DEFAULT_FCP),
+                limit(config, LCP_KEY, DEFAULT_LCP),
+                limit(config, CLS_KEY, DEFAULT_CLS),
+                limit(config, TBT_KEY, DEFAULT_TBT),
+                limit(config, LOAD_KEY, Double.MAX_VALUE));
+    }
+
+    private static double limit(HarnessConfig config, String key, double defaultValue) {
+        String value = config.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " must be a number, was '" + value + "'");
+        }
+    }
+
+    public PerformanceBudget firstContentfulPaint(double millis) {
+        return new PerformanceBudget(millis, largestContentfulPaint, cumulativeLayoutShift, totalBlockingTime, load);
+    }
+
+    public PerformanceBudget largestContentfulPaint(double millis) {
+        return new PerformanceBudget(firstContentfulPaint, millis, cumulativeLayoutShift, totalBlockingTime, load);
+    }
+
+    public PerformanceBudget cumulativeLayoutShift(double score) {
+        return new PerformanceBudget(firstContentfulPaint, largestContentfulPaint, score, totalBlockingTime, load);
+    }
+
+    public PerformanceBudget totalBlockingTime(double millis) {
+        return new PerformanceBudget(firstContentfulPaint, largestContentfulPaint, cumulativeLayoutShift, millis, load);
+    }
+
+    public PerformanceBudget load(double millis) {
+        return new PerformanceBudget(firstContentfulPaint, largestContentfulPaint, cumulativeLayoutShift, totalBlockingTime, millis);
+    }
+
+    // Human-readable description of every exceeded limit, empty when within budget
+    public List<String> violations(PageMetrics metrics) {
+        List<String> violations = new ArrayList<>();
+        check(violations, "FCP", metrics.getFirstContentfulPaint(), firstContentfulPaint, "ms");
+        check(violations, "LCP", metrics.getLargestContentfulPaint(), largestContentfulPaint, "ms");
+        check(violations, "CLS", metrics.getCumulativeLayoutShift(), cumulativeLayoutShift, "");
+        check(violations, "TBT", metrics.getTotalBlockingTime(), totalBlockingTime, "ms");
+        check(violations, "load", metrics.getLoad(), load, "ms");
+        return violations;
+    }
+
+    public void assertWithin(PageMetrics metrics) {
+        List<String> violations = violations(metrics);
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Performance budget exceeded: " + String.join(", ", violations)
+                    + " (" + metrics + ")");
+        }
+    }
+
+    private static void check(List<String> violations, String name, double actual, double limit, String unit) {
+        if (actual >= 0 && actual > limit) {
+            String format = unit.isEmpty() ? "%s %.3f > %.3f" : "%s %.0f " + unit + " > %.0f " + unit;
+            violations.add(String.format(Locale.ROOT, format, name, actual, limit));
+        }
+    }
+}
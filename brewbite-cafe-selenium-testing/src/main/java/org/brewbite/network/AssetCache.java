@@ -0,0 +1,66 @@
+package org.brewbite.network;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Static asset responses shared by every browser session in the JVM, so an
+ * asset is fetched from the server once per run instead of once per Chrome
+ * profile. Bodies are kept base64-encoded, the form DevTools hands them out
+ * and takes them back in. Once {@link #MAX_BYTES} is reached new responses
+ * are no longer stored.
+ */
+public final class AssetCache {
+
+    public static final long MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final AssetCache SHARED = new AssetCache();
+
+    private final Map<String, CachedResponse> responses = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+
+    public static AssetCache shared() {
+        return SHARED;
+    }
+
+    public CachedResponse get(String url) {
+        return responses.get(url);
+    }
+
+    public boolean contains(String url) {
+        return responses.containsKey(url);
+    }
+
+    void put(String url, CachedResponse response) {
+        if (size.get() + response.base64Body.length() > MAX_BYTES) {
+            return;
+        }
+        if (responses.putIfAbsent(url, response) == null) {
+            size.addAndGet(response.base64Body.length());
+        }
+    }
+
+    public int entries() {
+        return responses.size();
+    }
+
+    // e.g. "12 assets, 410 KB"
+    @Override
+    public String toString() {
+        return responses.size() + " assets, " + size.get() * 3 / 4 / 1024 + " KB";
+    }
+
+    public static final class CachedResponse {
+        final int status;
+        final List<Map<String, String>> headers;
+        final String base64Body;
+
+        CachedResponse(int status, List<Map<String, String>> headers, String base64Body) {
+            this.status = status;
+            this.headers = headers;
+            this.base64Body = base64Body;
+        }
+    }
+}
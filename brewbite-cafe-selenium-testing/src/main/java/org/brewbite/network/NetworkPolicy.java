@@ -0,0 +1,101 @@
+package org.brewbite.network;
+
+import org.brewbite.config.HarnessConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Which requests a {@link NetworkTap} blocks outright and which responses it
+ * keeps in the JVM-wide {@link AssetCache}. Patterns use the DevTools
+ * wildcard syntax ({@code *} matches anything), configured through
+ * {@link HarnessConfig}:
+ * <ul>
+ *   <li>{@code brewbite.network} - {@code false} launches browsers without a tap</li>
+ *   <li>{@code brewbite.network.block} - comma-separated, default favicon, web
+ *       fonts and analytics; {@code none} blocks nothing</li>
+ *   <li>{@code brewbite.network.cache} - comma-separated, default Vite's hashed
+ *       {@code /assets/}; {@code none} caches nothing</li>
+ * </ul>
+ */
+public final class NetworkPolicy {
+
+    public static final String ENABLED_KEY = "brewbite.network";
+    public static final String BLOCK_KEY = "brewbite.network.block";
+    public static final String CACHE_KEY = "brewbite.network.cache";
+
+    // Nothing a functional check looks at; fonts fall back to the next family in the stack
+    public static final List<String> DEFAULT_BLOCKED = List.of(
+            "*/vite.svg", "*/favicon.ico",
+            "*.woff", "*.woff2", "*.ttf", "*.otf",
+            "*fonts.googleapis.com/*", "*fonts.gstatic.com/*",
+            "*google-analytics.com/*", "*googletagmanager.com/*");
+
+    // Content-hashed by vite build, so a URL always has the same body
+    public static final List<String> DEFAULT_CACHED = List.of("*/assets/*");
+
+    private final boolean enabled;
+    private final List<String> blocked;
+    private final List<String> cached;
+    private final List<Pattern> cachedPatterns = new ArrayList<>();
+
+    public NetworkPolicy(boolean enabled, List<String> blocked, List<String> cached) {
+        this.enabled = enabled;
+        this.blocked = List.copyOf(blocked);
+        this.cached = List.copyOf(cached);
+        for (String pattern : cached) {
+            cachedPatterns.add(toRegex(pattern));
+        }
+    }
+
+    public static NetworkPolicy fromConfig(HarnessConfig config) {
+        return new NetworkPolicy(Boolean.parseBoolean(config.get(ENABLED_KEY, "true")),
+                patterns(config, BLOCK_KEY, DEFAULT_BLOCKED),
+                patterns(config, CACHE_KEY, DEFAULT_CACHED));
+    }
+
+    private static List<String> patterns(HarnessConfig config, String key, List<String> defaults) {
+        List<String> configured = config.getList(key);
+        if (configured.isEmpty()) {
+            return defaults;
+        }
+        return configured.size() == 1 && configured.get(0).equalsIgnoreCase("none") ? List.of() : configured;
+    }
+
+    private static Pattern toRegex(String wildcard) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : wildcard.split("\\*", -1)) {
+            if (regex.length() > 0) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public List<String> getBlocked() {
+        return blocked;
+    }
+
+    public List<String> getCached() {
+        return cached;
+    }
+
+    public boolean isCacheable(String url) {
+        for (Pattern pattern : cachedPatterns) {
+            if (pattern.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return enabled ? "blocking " + blocked.size() + " pattern(s), caching " + cached : "disabled";
+    }
+}
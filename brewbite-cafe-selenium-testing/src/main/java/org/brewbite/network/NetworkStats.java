@@ -0,0 +1,52 @@
+package org.brewbite.network;
+
+/**
+ * Request counters of one browser session, or the difference between two
+ * snapshots of them when charged to a single test.
+ */
+public final class NetworkStats {
+
+    public static final NetworkStats NONE = new NetworkStats(0, 0, 0, 0);
+
+    private final long requests;
+    private final long bytes;
+    private final long blocked;
+    private final long cached;
+
+    NetworkStats(long requests, long bytes, long blocked, long cached) {
+        this.requests = requests;
+        this.bytes = bytes;
+        this.blocked = blocked;
+        this.cached = cached;
+    }
+
+    public NetworkStats minus(NetworkStats earlier) {
+        return new NetworkStats(requests - earlier.requests, bytes - earlier.bytes,
+                blocked - earlier.blocked, cached - earlier.cached);
+    }
+
+    // Every request the page made, including blocked and cache-served ones
+    public long getRequests() {
+        return requests;
+    }
+
+    // Encoded bytes received, as reported by Chrome; blocked requests add nothing
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getBlocked() {
+        return blocked;
+    }
+
+    // Answered from the AssetCache without reaching the server
+    public long getCached() {
+        return cached;
+    }
+
+    // e.g. "14 requests, 182 KB, 2 blocked, 5 cached"
+    @Override
+    public String toString() {
+        return requests + " requests, " + bytes / 1024 + " KB, " + blocked + " blocked, " + cached + " cached";
+    }
+}
@@ -0,0 +1,213 @@
+package org.brewbite.network;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DevTools hook on one browser session. It blocks the {@link NetworkPolicy}'s
+ * patterns inside Chrome ({@code Network.setBlockedURLs}, no round trip per
+ * request), answers cacheable requests from the shared {@link AssetCache}
+ * ({@code Fetch.requestPaused}) and counts requests, bytes, blocked and
+ * cache-served requests so {@link NetworkStats} can be charged per test.
+ *
+ * Only raw CDP method names are used, so the tap does not depend on the
+ * version-specific devtools modules matching the installed Chrome.
+ */
+public final class NetworkTap {
+
+    private static final Map<WebDriver, NetworkTap> TAPS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // DevTools delivers events on its own connection thread; commands sent back must not block it
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ExecutorService RESPONDER = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "network-tap-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Headers that describe the wire encoding of the original response, not the decoded body we replay
+    private static final List<String> DROPPED_HEADERS = List.of("content-encoding", "content-length", "transfer-encoding");
+
+    private final DevTools devTools;
+    private final NetworkPolicy policy;
+    private final AssetCache cache;
+    private final Map<String, PendingResponse> pending = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong blocked = new AtomicLong();
+    private final AtomicLong cached = new AtomicLong();
+
+    private NetworkTap(DevTools devTools, NetworkPolicy policy, AssetCache cache) {
+        this.devTools = devTools;
+        this.policy = policy;
+        this.cache = cache;
+    }
+
+    /**
+     * Taps a freshly launched browser and returns it unchanged. Browsers
+     * without DevTools, or whose DevTools connection fails, run untapped.
+     */
+    public static WebDriver attach(WebDriver driver, NetworkPolicy policy, AssetCache cache) {
+        if (!policy.isEnabled() || !(driver instanceof HasDevTools)) {
+            return driver;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            NetworkTap tap = new NetworkTap(devTools, policy, cache);
+            tap.start();
+            TAPS.put(driver, tap);
+        } catch (WebDriverException e) {
+            System.out.println("Network tap: not attached - " + e.getMessage());
+        }
+        return driver;
+    }
+
+    // Tap of the session behind a (possibly decorated) driver, or null if it has none
+    public static NetworkTap of(WebDriver driver) {
+        while (true) {
+            NetworkTap tap = TAPS.get(driver);
+            if (tap != null || !(driver instanceof WrapsDriver)) {
+                return tap;
+            }
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+    }
+
+    public NetworkStats snapshot() {
+        return new NetworkStats(requests.get(), bytes.get(), blocked.get(), cached.get());
+    }
+
+    private void start() {
+        devTools.addListener(event("Network.requestWillBeSent"), params -> requests.incrementAndGet());
+        devTools.addListener(event("Network.responseReceived"), this::onResponse);
+        devTools.addListener(event("Network.loadingFinished"), this::onFinished);
+        devTools.addListener(event("Network.loadingFailed"), params -> {
+            pending.remove((String) params.get("requestId"));
+            if (params.get("blockedReason") != null) {
+                blocked.incrementAndGet();
+            }
+        });
+        devTools.send(command("Network.enable", Map.of()));
+        if (!policy.getBlocked().isEmpty()) {
+            devTools.send(command("Network.setBlockedURLs", Map.of("urls", policy.getBlocked())));
+        }
+
+        if (!policy.getCached().isEmpty()) {
+            List<Map<String, Object>> patterns = new ArrayList<>();
+            for (String pattern : policy.getCached()) {
+                patterns.add(Map.of("urlPattern", pattern, "requestStage", "Request"));
+            }
+            devTools.addListener(event("Fetch.requestPaused"), params -> RESPONDER.execute(() -> onPaused(params)));
+            devTools.send(command("Fetch.enable", Map.of("patterns", patterns)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onResponse(Map<String, Object> params) {
+        Map<String, Object> response = (Map<String, Object>) params.get("response");
+        String url = (String) response.get("url");
+        int status = ((Number) response.get("status")).intValue();
+        if (status == 200 && policy.isCacheable(url) && !cache.contains(url)) {
+            pending.put((String) params.get("requestId"),
+                    new PendingResponse(url, status, (Map<String, Object>) response.get("headers")));
+        }
+    }
+
+    private void onFinished(Map<String, Object> params) {
+        Object length = params.get("encodedDataLength");
+        if (length instanceof Number) {
+            bytes.addAndGet(((Number) length).longValue());
+        }
+        String requestId = (String) params.get("requestId");
+        PendingResponse response = pending.remove(requestId);
+        if (response != null) {
+            RESPONDER.execute(() -> store(requestId, response));
+        }
+    }
+
+    private void store(String requestId, PendingResponse response) {
+        try {
+            Map<String, Object> body = devTools.send(new Command<>("Network.getResponseBody",
+                    Map.of("requestId", requestId), Json.MAP_TYPE));
+            String text = (String) body.get("body");
+            String base64 = Boolean.TRUE.equals(body.get("base64Encoded"))
+                    ? text
+                    : Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+            cache.put(response.url, new AssetCache.CachedResponse(response.status, response.replayHeaders(), base64));
+        } catch (WebDriverException e) {
+            // Body already evicted or the page navigated away; the next load will try again
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onPaused(Map<String, Object> params) {
+        String requestId = (String) params.get("requestId");
+        Map<String, Object> request = (Map<String, Object>) params.get("request");
+        AssetCache.CachedResponse hit = "GET".equals(request.get("method")) ? cache.get((String) request.get("url")) : null;
+        try {
+            if (hit == null) {
+                devTools.send(command("Fetch.continueRequest", Map.of("requestId", requestId)));
+            } else {
+                devTools.send(command("Fetch.fulfillRequest", Map.of(
+                        "requestId", requestId,
+                        "responseCode", hit.status,
+                        "responseHeaders", hit.headers,
+                        "body", hit.base64Body)));
+                cached.incrementAndGet();
+            }
+        } catch (WebDriverException e) {
+            // The request was cancelled (navigation, closed tab) before we answered
+        }
+    }
+
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+
+    private static Command<Void> command(String method, Map<String, Object> params) {
+        return new Command<>(method, params);
+    }
+
+    private static final class PendingResponse {
+        final String url;
+        final int status;
+        final Map<String, Object> headers;
+
+        PendingResponse(String url, int status, Map<String, Object> headers) {
+            this.url = url;
+            this.status = status;
+            this.headers = headers;
+        }
+
+        // Fetch.fulfillRequest takes headers as name/value pairs
+        List<Map<String, String>> replayHeaders() {
+            List<Map<String, String>> replay = new ArrayList<>();
+            for (Map.Entry<String, Object> header : headers.entrySet()) {
+                if (!DROPPED_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                    replay.add(Map.of("name", header.getKey(), "value", String.valueOf(header.getValue())));
+                }
+            }
+            return replay;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.brewbite.pages;
+
+import org.openqa.selenium.WebElement;
+import static org.brewbite.locate.LandingPageLocators.ABOUT_SECTION;
+import static org.brewbite.locate.LandingPageLocators.ABOUT_TEXT;
+
+public class AboutSection extends PageSection {
+
+    AboutSection(LandingPage page) {
+        super(page);
+    }
+
+    public WebElement root() {
+        return element(ABOUT_SECTION);
+    }
+
+    public WebElement text() {
+        return element(ABOUT_TEXT);
+    }
+}
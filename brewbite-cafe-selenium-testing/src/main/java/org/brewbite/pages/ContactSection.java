@@ -0,0 +1,25 @@
+package org.brewbite.pages;
+
+import org.openqa.selenium.WebElement;
+import static org.brewbite.locate.LandingPageLocators.CONTACT_EMAIL;
+import static org.brewbite.locate.LandingPageLocators.CONTACT_PHONE;
+import static org.brewbite.locate.LandingPageLocators.CONTACT_SECTION;
+
+public class ContactSection extends PageSection {
+
+    ContactSection(LandingPage page) {
+        super(page);
+    }
+
+    public WebElement root() {
+        return element(CONTACT_SECTION);
+    }
+
+    public WebElement email() {
+        return element(CONTACT_EMAIL);
+    }
+
+    public WebElement phone() {
+        return element(CONTACT_PHONE);
+    }
+}
@@ -0,0 +1,20 @@
+package org.brewbite.pages;
+
+import org.openqa.selenium.WebElement;
+import static org.brewbite.locate.LandingPageLocators.COPYRIGHT_TEXT;
+import static org.brewbite.locate.LandingPageLocators.FOOTER;
+
+public class Footer extends PageSection {
+
+    Footer(LandingPage page) {
+        super(page);
+    }
+
+    public WebElement root() {
+        return element(FOOTER);
+    }
+
+    public WebElement copyrightText() {
+        return element(COPYRIGHT_TEXT);
+    }
+}
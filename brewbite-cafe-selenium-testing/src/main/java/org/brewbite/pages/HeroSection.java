@@ -0,0 +1,30 @@
+package org.brewbite.pages;
+
+import org.openqa.selenium.WebElement;
+import static org.brewbite.locate.LandingPageLocators.CAFE_NAME;
+import static org.brewbite.locate.LandingPageLocators.HERO_SECTION;
+import static org.brewbite.locate.LandingPageLocators.RESERVE_BUTTON;
+import static org.brewbite.locate.LandingPageLocators.TAGLINE;
+
+public class HeroSection extends PageSection {
+
+    HeroSection(LandingPage page) {
+        super(page);
+    }
+
+    public WebElement root() {
+        return element(HERO_SECTION);
+    }
+
+    public WebElement cafeName() {
+        return element(CAFE_NAME);
+    }
+
+    public WebElement tagline() {
+        return element(TAGLINE);
+    }
+
+    public WebElement reserveButton() {
+        return element(RESERVE_BUTTON);
+    }
+}
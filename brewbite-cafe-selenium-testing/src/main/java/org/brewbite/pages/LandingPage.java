@@ -0,0 +1,170 @@
+package org.brewbite.pages;
+
+import org.brewbite.locate.Finder;
+import org.brewbite.wait.WaitEngine;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+/**
+ * Page object for the BrewBite Cafe landing page. Each section exposes its
+ * elements as lazy handles: nothing is looked up until a test uses it, and
+ * a handle is resolved at most once per page load. Calling {@link #open}
+ * starts a new page load and so invalidates every cached handle.
+ *
+ * Scrolling, hovering and clicking through the page object are tracked in
+ * its {@link PageState}, which lets {@link #prepare} skip the reload between
+ * tests that left the page untouched or only scrolled or hovered.
+ */
+public class LandingPage {
+
+    // Scrolls back to the top when asked to and reports where the browser actually is,
+    // so a session reset by the driver pool (about:blank) is noticed without a reload
+    private static final String RESET_SCRIPT =
+            "if (arguments[0]) { window.scrollTo({ top: 0, left: 0, behavior: 'instant' }); }" +
+                    "return location.href;";
+
+    private static final ThreadLocal<LandingPage> CURRENT = new ThreadLocal<>();
+
+    private final WebDriver driver;
+    private final Finder finder;
+    private final WaitEngine waits;
+    private final PageState state = new PageState();
+    private int pageLoad;
+
+    private final NavigationBar navigationBar = new NavigationBar(this);
+    private final HeroSection hero = new HeroSection(this);
+    private final MenuSection menu = new MenuSection(this);
+    private final AboutSection about = new AboutSection(this);
+    private final ContactSection contact = new ContactSection(this);
+    private final Footer footer = new Footer(this);
+
+    public LandingPage(WebDriver driver) {
+        this.driver = driver;
+        this.finder = new Finder(driver);
+        this.waits = new WaitEngine(driver);
+    }
+
+    /**
+     * The calling thread's page object for the given session. Tests running
+     * one after another on the same worker share it, and with it the page
+     * state and cached element handles; a new session gets a new page object.
+     */
+    public static LandingPage forDriver(WebDriver driver) {
+        LandingPage page = CURRENT.get();
+        if (page == null || page.driver != driver) {
+            page = new LandingPage(driver);
+            CURRENT.set(page);
+        }
+        return page;
+    }
+
+    public LandingPage open(String url) {
+        driver.get(url);
+        pageLoad++;
+        state.loaded(url);
+        return this;
+    }
+
+    /**
+     * Makes the page ready for the next test as cheaply as possible: reused as
+     * is if nothing touched it, scrolled back to the top and un-hovered if
+     * that is all that happened, otherwise reloaded.
+     *
+     * @param fresh force a reload, e.g. for a case that compares against the page's initial state
+     */
+    public PageState.Preparation prepare(String url, boolean fresh) {
+        PageState.Preparation preparation = fresh || state.needsReload(url)
+                ? reload(url)
+                : reset(url);
+        state.prepared(preparation);
+        return preparation;
+    }
+
+    private PageState.Preparation reload(String url) {
+        open(url);
+        return PageState.Preparation.RELOADED;
+    }
+
+    private PageState.Preparation reset(String url) {
+        boolean clean = state.isClean();
+        String href = (String) ((JavascriptExecutor) driver).executeScript(RESET_SCRIPT, !clean);
+        if (!sameUrl(href, url)) {
+            return reload(url);
+        }
+        if (state.has(PageState.Change.HOVERED)) {
+            // Pointer to the top-left corner fires mouseleave; then let the hover transition run back
+            new Actions(driver).moveToLocation(0, 0).perform();
+            waits.animationsSettled();
+        }
+        return clean ? PageState.Preparation.REUSED : PageState.Preparation.RESET;
+    }
+
+    private static boolean sameUrl(String href, String url) {
+        return href != null && stripTrailingSlash(href).equals(stripTrailingSlash(url));
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public NavigationBar navigationBar() {
+        return navigationBar;
+    }
+
+    public HeroSection hero() {
+        return hero;
+    }
+
+    public MenuSection menu() {
+        return menu;
+    }
+
+    public AboutSection about() {
+        return about;
+    }
+
+    public ContactSection contact() {
+        return contact;
+    }
+
+    public Footer footer() {
+        return footer;
+    }
+
+    // Scrolls the element to the top of the viewport and waits for the scroll to settle
+    public void scrollTo(WebElement element) {
+        state.mark(PageState.Change.SCROLLED);
+        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
+        waits.scrollSettled();
+    }
+
+    // Moves the pointer over the element; prepare() moves it away again before the next test
+    public void hover(WebElement element) {
+        // moveToElement also scrolls the element into view if needed
+        state.mark(PageState.Change.HOVERED);
+        state.mark(PageState.Change.SCROLLED);
+        new Actions(driver).moveToElement(element).perform();
+    }
+
+    public PageState state() {
+        return state;
+    }
+
+    public WebDriver driver() {
+        return driver;
+    }
+
+    public WaitEngine waits() {
+        return waits;
+    }
+
+    Finder finder() {
+        return finder;
+    }
+
+    int pageLoad() {
+        return pageLoad;
+    }
+}
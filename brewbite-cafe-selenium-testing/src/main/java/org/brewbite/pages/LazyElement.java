@@ -0,0 +1,98 @@
+package org.brewbite.pages;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * A {@link WebElement} handle that is only looked up when first used, then
+ * cached until the owning page is reloaded. If the cached element has gone
+ * stale anyway (e.g. React replaced the node) the lookup is repeated once
+ * and the call retried, so page objects can hand out handles freely.
+ *
+ * The proxy also implements {@link WrapsElement} and {@link Locatable}, so
+ * it can be passed to {@code Actions} and {@code executeScript}. Clicks and
+ * typing through the handle are reported to the page's {@link PageState}.
+ */
+final class LazyElement implements InvocationHandler {
+
+    private final String description;
+    private final Supplier<WebElement> resolver;
+    private final LandingPage page;
+    private WebElement cached;
+    private int cachedPageLoad;
+
+    private LazyElement(String description, Supplier<WebElement> resolver, LandingPage page) {
+        this.description = description;
+        this.resolver = resolver;
+        this.page = page;
+    }
+
+    // resolver looks the element up; it is called at most once per page load unless the element goes stale
+    static WebElement of(String description, Supplier<WebElement> resolver, LandingPage page) {
+        return (WebElement) Proxy.newProxyInstance(LazyElement.class.getClassLoader(),
+                new Class<?>[] {WebElement.class, WrapsElement.class, Locatable.class},
+                new LazyElement(description, resolver, page));
+    }
+
+    // Starts out resolved to an element the caller already looked up on the current page load
+    static WebElement of(String description, WebElement resolved, Supplier<WebElement> resolver, LandingPage page) {
+        LazyElement handler = new LazyElement(description, resolver, page);
+        handler.cached = resolved;
+        handler.cachedPageLoad = page.pageLoad();
+        return (WebElement) Proxy.newProxyInstance(LazyElement.class.getClassLoader(),
+                new Class<?>[] {WebElement.class, WrapsElement.class, Locatable.class}, handler);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "getWrappedElement":
+                return resolve();
+            case "toString":
+                return "LazyElement[" + description + "]";
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "click":
+            case "submit":
+            case "sendKeys":
+            case "clear":
+                page.state().mark(PageState.Change.CLICKED);
+                break;
+            default:
+                break;
+        }
+
+        try {
+            return invokeOn(resolve(), method, args);
+        } catch (StaleElementReferenceException e) {
+            cached = null;
+            return invokeOn(resolve(), method, args);
+        }
+    }
+
+    private WebElement resolve() {
+        int currentPageLoad = page.pageLoad();
+        if (cached == null || cachedPageLoad != currentPageLoad) {
+            cached = resolver.get();
+            cachedPageLoad = currentPageLoad;
+        }
+        return cached;
+    }
+
+    private static Object invokeOn(WebElement element, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(element, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
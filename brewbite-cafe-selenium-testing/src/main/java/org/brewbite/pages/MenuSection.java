@@ -0,0 +1,26 @@
+package org.brewbite.pages;
+
+import org.openqa.selenium.WebElement;
+import java.util.List;
+import static org.brewbite.locate.LandingPageLocators.MENU_CONTAINER;
+import static org.brewbite.locate.LandingPageLocators.MENU_ITEMS;
+import static org.brewbite.locate.LandingPageLocators.MENU_SECTION;
+
+public class MenuSection extends PageSection {
+
+    MenuSection(LandingPage page) {
+        super(page);
+    }
+
+    public WebElement root() {
+        return element(MENU_SECTION);
+    }
+
+    public WebElement container() {
+        return element(MENU_CONTAINER);
+    }
+
+    public List<WebElement> items() {
+        return elements(MENU_ITEMS);
+    }
+}
@@ -0,0 +1,35 @@
+package org.brewbite.pages;
+
+import org.openqa.selenium.WebElement;
+import static org.brewbite.locate.LandingPageLocators.NAVBAR;
+import static org.brewbite.locate.LandingPageLocators.NAV_ABOUT;
+import static org.brewbite.locate.LandingPageLocators.NAV_CONTACT;
+import static org.brewbite.locate.LandingPageLocators.NAV_HOME;
+import static org.brewbite.locate.LandingPageLocators.NAV_MENU;
+
+public class NavigationBar extends PageSection {
+
+    NavigationBar(LandingPage page) {
+        super(page);
+    }
+
+    public WebElement root() {
+        return element(NAVBAR);
+    }
+
+    public WebElement homeLink() {
+        return element(NAV_HOME);
+    }
+
+    public WebElement menuLink() {
+        return element(NAV_MENU);
+    }
+
+    public WebElement aboutLink() {
+        return element(NAV_ABOUT);
+    }
+
+    public WebElement contactLink() {
+        return element(NAV_CONTACT);
+    }
+}
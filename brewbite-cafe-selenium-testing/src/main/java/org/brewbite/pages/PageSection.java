@@ -0,0 +1,87 @@
+package org.brewbite.pages;
+
+import org.brewbite.locate.Finder;
+import org.brewbite.locate.Locator;
+import org.openqa.selenium.WebElement;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class for one section of the landing page. Element handles are
+ * created once per section and resolved lazily through the page's
+ * {@link Finder}, so a test that never touches an element never pays for
+ * looking it up.
+ */
+public abstract class PageSection {
+
+    private final LandingPage page;
+    private final Map<Locator, WebElement> elements = new HashMap<>();
+    private final Map<Locator, CachedList> lists = new HashMap<>();
+
+    protected PageSection(LandingPage page) {
+        this.page = page;
+    }
+
+    protected LandingPage page() {
+        return page;
+    }
+
+    protected WebElement element(Locator locator) {
+        return elements.computeIfAbsent(locator, l ->
+                LazyElement.of(l.getName(), () -> page.finder().find(l), page));
+    }
+
+    /**
+     * All matches of a locator. The list is looked up once per page load and
+     * its elements are handed out as they are; each entry only looks the
+     * list up again, and picks its index, if it goes stale.
+     */
+    protected List<WebElement> elements(Locator locator) {
+        CachedList list = lists.computeIfAbsent(locator, CachedList::new);
+        return list.get();
+    }
+
+    private final class CachedList {
+        private final Locator locator;
+        private List<WebElement> handles;
+        private int pageLoad = -1;
+
+        CachedList(Locator locator) {
+            this.locator = locator;
+        }
+
+        List<WebElement> get() {
+            if (handles == null || pageLoad != page.pageLoad()) {
+                List<WebElement> found = page.finder().findAll(locator);
+                pageLoad = page.pageLoad();
+                handles = new HandleList(locator, found);
+            }
+            return handles;
+        }
+    }
+
+    private final class HandleList extends AbstractList<WebElement> {
+        private final WebElement[] handles;
+
+        HandleList(Locator locator, List<WebElement> found) {
+            handles = new WebElement[found.size()];
+            for (int i = 0; i < handles.length; i++) {
+                int index = i;
+                handles[i] = LazyElement.of(locator.getName() + "[" + index + "]", found.get(index),
+                        () -> page.finder().findAll(locator).get(index), page);
+            }
+        }
+
+        @Override
+        public WebElement get(int index) {
+            return handles[index];
+        }
+
+        @Override
+        public int size() {
+            return handles.length;
+        }
+    }
+}
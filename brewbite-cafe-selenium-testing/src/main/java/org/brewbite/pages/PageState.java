@@ -0,0 +1,63 @@
+package org.brewbite.pages;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * What the current test has done to the loaded page since it was last
+ * loaded or reset. {@link LandingPage#prepare} uses it to decide between
+ * reusing the page as is, a cheap in-page reset, or a full reload.
+ */
+public class PageState {
+
+    public enum Change {
+        SCROLLED, // undone by scrolling back to the top
+        HOVERED,  // undone by moving the pointer away and letting transitions finish
+        CLICKED   // may have changed application state, so only a reload undoes it
+    }
+
+    public enum Preparation {
+        REUSED, RESET, RELOADED
+    }
+
+    private final Set<Change> changes = EnumSet.noneOf(Change.class);
+    private String loadedUrl;
+    private Preparation lastPreparation;
+
+    void loaded(String url) {
+        loadedUrl = url;
+        changes.clear();
+    }
+
+    void mark(Change change) {
+        changes.add(change);
+    }
+
+    void prepared(Preparation preparation) {
+        lastPreparation = preparation;
+        changes.clear();
+    }
+
+    boolean has(Change change) {
+        return changes.contains(change);
+    }
+
+    public boolean isClean() {
+        return changes.isEmpty();
+    }
+
+    // True if no in-page reset can bring the page back to the state of a fresh load of url
+    boolean needsReload(String url) {
+        return loadedUrl == null || !loadedUrl.equals(url) || changes.contains(Change.CLICKED);
+    }
+
+    // How the page was made ready for the current test, or null before the first prepare()
+    public Preparation lastPreparation() {
+        return lastPreparation;
+    }
+
+    @Override
+    public String toString() {
+        return "loaded=" + loadedUrl + ", changes=" + changes + ", lastPreparation=" + lastPreparation;
+    }
+}
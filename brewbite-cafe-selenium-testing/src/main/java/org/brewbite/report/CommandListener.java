@@ -0,0 +1,84 @@
+package org.brewbite.report;
+
+import org.brewbite.config.HarnessConfig;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * Times every WebDriver command and charges it to the test currently
+ * running on the calling thread (see {@link TestRecorder}). Commands made
+ * outside a test, e.g. while the driver pool resets a session, are ignored.
+ *
+ * Enabled by default; {@code -Dbrewbite.instrument=false} launches plain drivers.
+ */
+public class CommandListener implements WebDriverListener {
+
+    public static final String INSTRUMENT_PROPERTY = "brewbite.instrument";
+
+    private static final CommandListener INSTANCE = new CommandListener();
+
+    // Accessors that only hand out another local interface and never reach the browser
+    private static final Set<Class<?>> LOCAL_RESULTS = Set.of(
+            WebDriver.Options.class, WebDriver.Navigation.class, WebDriver.TargetLocator.class,
+            WebDriver.Window.class, WebDriver.Timeouts.class);
+
+    private static final Set<String> NAVIGATION_COMMANDS = Set.of(
+            "get", "navigate.to", "navigate.back", "navigate.forward", "navigate.refresh");
+
+    private final ThreadLocal<Deque<Long>> starts = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private CommandListener() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(HarnessConfig.shared().get(INSTRUMENT_PROPERTY, "true"));
+    }
+
+    public static WebDriver instrument(WebDriver driver) {
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isCommand(method)) {
+            starts.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method);
+    }
+
+    private void finish(Object target, Method method) {
+        if (!isCommand(method) || starts.get().isEmpty()) {
+            return;
+        }
+        long nanos = System.nanoTime() - starts.get().pop();
+        TestTiming timing = TestRecorder.current();
+        if (timing != null) {
+            String command = commandName(target, method);
+            timing.recordCommand(command, NAVIGATION_COMMANDS.contains(command), nanos);
+        }
+    }
+
+    private static boolean isCommand(Method method) {
+        return method.getDeclaringClass() != Object.class && !LOCAL_RESULTS.contains(method.getReturnType());
+    }
+
+    // e.g. "findElement", "click", "executeAsyncScript", "navigate.refresh"
+    private static String commandName(Object target, Method method) {
+        return target instanceof WebDriver.Navigation ? "navigate." + method.getName() : method.getName();
+    }
+}
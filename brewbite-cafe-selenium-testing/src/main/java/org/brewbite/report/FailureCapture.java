@@ -0,0 +1,213 @@
+package org.brewbite.report;
+
+import org.brewbite.config.HarnessConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Evidence of a failed case: screenshot, DOM and the browser console since
+ * the case started. Only the browser round trips happen on the failing
+ * thread; decoding and writing the files is left to one background writer
+ * with a bounded queue, and a full queue drops the capture rather than
+ * holding up the suite. Pending writes are finished when the JVM exits.
+ *
+ * Cases that fail on the same page state (URL, scroll position, viewport and
+ * DOM) share one capture; only the first of them takes a screenshot.
+ *
+ * Files go to {@code <brewbite.report.dir>/failures/<run>/}; {@code brewbite.capture=false}
+ * turns capturing off.
+ */
+public final class FailureCapture {
+
+    public static final String ENABLED_KEY = "brewbite.capture";
+
+    private static final int QUEUE_CAPACITY = 16;
+    private static final long SHUTDOWN_WAIT_SECONDS = 30;
+
+    // One round trip for everything that identifies the page state
+    private static final String STATE_SCRIPT =
+            "return [location.href, window.scrollX, window.scrollY, window.innerWidth, window.innerHeight,"
+                    + " document.documentElement.outerHTML];";
+
+    private static FailureCapture shared;
+
+    private final Path directory;
+    private final ThreadPoolExecutor writer;
+    private final Map<String, String> captures = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger deduplicated = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    FailureCapture(Path directory) {
+        this.directory = directory;
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), task -> {
+                    Thread thread = new Thread(task, "failure-capture-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // JVM-wide capture, or null when brewbite.capture=false
+    public static synchronized FailureCapture shared() {
+        if (shared == null && Boolean.parseBoolean(HarnessConfig.shared().get(ENABLED_KEY, "true"))) {
+            Path directory = RunReport.shared().directory()
+                    .resolve("failures").resolve(RunReport.shared().fileStem());
+            FailureCapture capture = new FailureCapture(directory);
+            Runtime.getRuntime().addShutdownHook(new Thread(capture::close, "failure-capture-flush"));
+            shared = capture;
+        }
+        return shared;
+    }
+
+    /**
+     * Captures the browser's current state for a failed case, attaches it to
+     * the case's timing and returns the path of the capture without
+     * extension, or null if nothing could be captured. Called after the case
+     * finished, so the capture's own commands are not charged to it. The
+     * files appear once the background writer gets to them.
+     *
+     * @param name e.g. "TC-09" or "TC-09@prod-mobile"
+     */
+    public String capture(WebDriver driver, String name, TestTiming timing) {
+        String base = captureState(driver, name, timing.getStartedAt());
+        if (base != null) {
+            timing.recordCapture(base);
+        }
+        return base;
+    }
+
+    private String captureState(WebDriver driver, String name, Instant since) {
+        List<?> state;
+        try {
+            state = (List<?>) ((JavascriptExecutor) driver).executeScript(STATE_SCRIPT);
+        } catch (WebDriverException | ClassCastException e) {
+            System.out.println("Failure capture for " + name + " skipped - " + e.getMessage());
+            return null;
+        }
+        String html = String.valueOf(state.get(5));
+        String key = digest(state.subList(0, 5) + "\n" + html);
+
+        String base = directory.resolve(String.format("%02d-%s", sequence.incrementAndGet(), safe(name))).toString();
+        String existing = captures.putIfAbsent(key, base);
+        if (existing != null) {
+            deduplicated.incrementAndGet();
+            return existing;
+        }
+
+        String screenshot = null;
+        if (driver instanceof TakesScreenshot) {
+            try {
+                // Left base64-encoded here; decoding is the writer's job
+                screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BASE64);
+            } catch (WebDriverException e) {
+                // The DOM and console are still worth keeping
+            }
+        }
+        List<LogEntry> console = new ArrayList<>();
+        try {
+            for (LogEntry entry : driver.manage().logs().get(LogType.BROWSER)) {
+                if (entry.getTimestamp() >= since.toEpochMilli()) {
+                    console.add(entry);
+                }
+            }
+        } catch (WebDriverException e) {
+            // Browser without the legacy log endpoint
+        }
+
+        String url = String.valueOf(state.get(0));
+        String image = screenshot;
+        try {
+            writer.execute(() -> write(base, url, html, image, console));
+        } catch (RejectedExecutionException e) {
+            dropped.incrementAndGet();
+            captures.remove(key, base);
+            System.out.println("Failure capture for " + name + " dropped, " + QUEUE_CAPACITY + " captures already queued");
+            return null;
+        }
+        return base;
+    }
+
+    private void write(String base, String url, String html, String screenshot, List<LogEntry> console) {
+        try {
+            Files.createDirectories(directory);
+            if (screenshot != null) {
+                Files.write(Paths.get(base + ".png"), Base64.getMimeDecoder().decode(screenshot));
+            }
+            Files.write(Paths.get(base + ".html"), ("<!-- " + url + " -->\n" + html).getBytes(StandardCharsets.UTF_8));
+            StringBuilder log = new StringBuilder();
+            for (LogEntry entry : console) {
+                log.append(Instant.ofEpochMilli(entry.getTimestamp())).append(' ')
+                        .append(entry.getLevel()).append(' ')
+                        .append(entry.getMessage()).append('\n');
+            }
+            Files.write(Paths.get(base + ".console.log"), log.toString().getBytes(StandardCharsets.UTF_8));
+            written.incrementAndGet();
+        } catch (IOException e) {
+            System.out.println("Failure capture " + base + " not written - " + e.getMessage());
+        }
+    }
+
+    private static String digest(String state) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(state.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", hash[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Keeps names usable as file names on every OS
+    private static String safe(String name) {
+        return name.replaceAll("[^A-Za-z0-9._@-]", "_");
+    }
+
+    // Finishes queued writes; called by the shutdown hook
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                System.out.println("Failure capture: gave up on " + writer.getQueue().size() + " pending capture(s)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (written.get() + deduplicated.get() + dropped.get() > 0) {
+            System.out.println("Failure capture: " + this);
+        }
+    }
+
+    // e.g. "3 written, 2 same page state, 0 dropped -> target/brewbite-reports/failures/run-20240101-120000"
+    @Override
+    public String toString() {
+        return written + " written, " + deduplicated + " same page state, " + dropped + " dropped -> " + directory;
+    }
+}
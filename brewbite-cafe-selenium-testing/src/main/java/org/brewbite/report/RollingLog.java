@@ -0,0 +1,106 @@
+package org.brewbite.report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only CSV written line by line, for runs too long to hold their
+ * results in memory. Lines go to {@code <stem>-001.csv}, {@code <stem>-002.csv}
+ * and so on, each starting with the header; a new file is started once the
+ * current one passes {@code maxBytes}, and only the newest {@code maxFiles}
+ * are kept on disk.
+ */
+public final class RollingLog implements AutoCloseable {
+
+    private final Path directory;
+    private final String stem;
+    private final String header;
+    private final long maxBytes;
+    private final int maxFiles;
+    private BufferedWriter writer;
+    private Path current;
+    private long bytes;
+    private int index;
+    private long lines;
+
+    public RollingLog(Path directory, String stem, String header, long maxBytes, int maxFiles) {
+        if (maxBytes <= 0 || maxFiles <= 0) {
+            throw new IllegalArgumentException("Rolling log needs a positive size and file count, got "
+                    + maxBytes + " bytes and " + maxFiles + " files");
+        }
+        this.directory = directory;
+        this.stem = stem;
+        this.header = header;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    // Appends one line and flushes it, so a killed run loses nothing already written
+    public synchronized void append(String line) {
+        try {
+            if (writer == null || bytes >= maxBytes) {
+                roll();
+            }
+            writer.write(line);
+            writer.newLine();
+            writer.flush();
+            bytes += line.length() + 1;
+            lines++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to " + current, e);
+        }
+    }
+
+    private void roll() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+        Files.createDirectories(directory);
+        index++;
+        current = file(index);
+        writer = Files.newBufferedWriter(current, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        writer.write(header);
+        writer.newLine();
+        bytes = header.length() + 1;
+        if (index > maxFiles) {
+            Files.deleteIfExists(file(index - maxFiles));
+        }
+    }
+
+    private Path file(int number) {
+        return directory.resolve(String.format("%s-%03d.csv", stem, number));
+    }
+
+    public synchronized long lines() {
+        return lines;
+    }
+
+    // File the next line goes to, or null before the first line
+    public synchronized Path current() {
+        return current;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                // Every line was already flushed
+            }
+            writer = null;
+        }
+    }
+
+    // e.g. "1200 lines -> target/brewbite-reports/run-20240101-120000-tests-003.csv"
+    @Override
+    public synchronized String toString() {
+        return lines + " lines -> " + (current == null ? directory.resolve(stem + "-*.csv") : current);
+    }
+}
@@ -0,0 +1,299 @@
+package org.brewbite.report;
+
+import org.brewbite.config.HarnessConfig;
+import org.brewbite.driver.ForkSlot;
+import org.brewbite.metrics.PageMetrics;
+import org.openqa.selenium.json.Json;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Timings of every test case run in this JVM, written as
+ * {@code run-<timestamp>.json} and {@code run-<timestamp>.csv} to
+ * {@code brewbite.report.dir} (default {@code target/brewbite-reports})
+ * by a shutdown hook, so JUnit, TestNG and the plain runner all end up in
+ * the same report.
+ *
+ * Under the {@code forked} build profile every surefire fork shares the
+ * {@code brewbite.run.id} of the build and writes
+ * {@code run-<id>-fork<N>-<pid>.json/.csv} (surefire numbers the forks of
+ * each provider from 1 again, hence the pid); each fork then merges all fork files
+ * written so far into {@code run-<id>.json/.csv}, so the last fork to exit
+ * leaves the complete report.
+ *
+ * Soak runs call {@link #streamTo} instead, so timings go straight to a
+ * {@link RollingLog} and are not held in memory until the JVM exits.
+ */
+public class RunReport {
+
+    public static final String DIR_PROPERTY = "brewbite.report.dir";
+    public static final String RUN_ID_PROPERTY = "brewbite.run.id";
+
+    private static final String CSV_HEADER =
+            "suite,test,outcome,wallMillis,navigationMillis,waitMillis,commandMillis,otherMillis,commandCount,commands,"
+                    + "requests,bytes,blockedRequests,cachedRequests,fcpMillis,lcpMillis,cls,tbtMillis,"
+                    + "consoleErrors,jsExceptions,domCommits,domMutations,renderChurn,capture";
+
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final int SLOWEST_SHOWN = 3;
+
+    private static RunReport shared;
+
+    private final String runId = HarnessConfig.shared().get(RUN_ID_PROPERTY, LocalDateTime.now().format(FILE_STAMP));
+    private final ForkSlot fork = ForkSlot.current();
+    private final Path directory;
+    private final List<TestTiming> timings = new CopyOnWriteArrayList<>();
+    private volatile RollingLog stream;
+
+    public RunReport(Path directory) {
+        this.directory = directory;
+    }
+
+    // JVM-wide report, written when the JVM exits
+    public static synchronized RunReport shared() {
+        if (shared == null) {
+            RunReport report = new RunReport(Paths.get(HarnessConfig.shared().get(DIR_PROPERTY, "target/brewbite-reports")));
+            Runtime.getRuntime().addShutdownHook(new Thread(report::write, "run-report-writer"));
+            shared = report;
+        }
+        return shared;
+    }
+
+    void add(TestTiming timing) {
+        RollingLog log = stream;
+        if (log != null) {
+            // Failure captures are attached after this point, so streamed rows leave that column empty
+            log.append(csvRow(timing));
+        } else {
+            timings.add(timing);
+        }
+    }
+
+    /**
+     * Appends every timing from now on to rolling CSV files next to the
+     * report ({@code <run>-tests-NNN.csv}) instead of keeping it for the
+     * report written on exit.
+     */
+    public synchronized RollingLog streamTo(long maxBytes, int maxFiles) {
+        if (stream == null) {
+            stream = new RollingLog(directory, fileStem() + "-tests", CSV_HEADER, maxBytes, maxFiles);
+        }
+        return stream;
+    }
+
+    public List<TestTiming> timings() {
+        return new ArrayList<>(timings);
+    }
+
+    // Where the report and the files written next to it go, brewbite.report.dir
+    public Path directory() {
+        return directory;
+    }
+
+    // Name of this JVM's report files without extension, e.g. "run-20240101-120000" or "run-<id>-fork2-4711"
+    public String fileStem() {
+        return "run-" + runId + (fork.isForked() ? "-fork" + fork.number() + "-" + ProcessHandle.current().pid() : "");
+    }
+
+    public synchronized void write() {
+        if (stream != null) {
+            stream.close();
+            System.out.println("Run report: streamed " + stream);
+        }
+        if (timings.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            String name = fileStem();
+            Path json = directory.resolve(name + ".json");
+            Path csv = directory.resolve(name + ".csv");
+            Files.write(json, toJson().getBytes(StandardCharsets.UTF_8));
+            Files.write(csv, toCsv().getBytes(StandardCharsets.UTF_8));
+
+            System.out.println("Run report: " + timings.size() + " tests -> " + json + ", " + csv);
+            if (fork.isForked()) {
+                aggregateForks();
+            }
+            List<TestTiming> slowest = timings();
+            slowest.sort(Comparator.comparingLong(TestTiming::getWallMillis).reversed());
+            for (TestTiming timing : slowest.subList(0, Math.min(SLOWEST_SHOWN, slowest.size()))) {
+                System.out.println("  " + timing.getSuite() + "." + timing.getTest() + ": " + timing);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write run report to " + directory, e);
+        }
+    }
+
+    String toJson() {
+        List<Map<String, Object>> tests = new ArrayList<>();
+        for (TestTiming timing : timings) {
+            Map<String, Object> test = new LinkedHashMap<>();
+            test.put("suite", timing.getSuite());
+            test.put("test", timing.getTest());
+            test.put("startedAt", timing.getStartedAt().toString());
+            test.put("outcome", timing.isPassed() ? "PASSED" : "FAILED");
+            test.put("wallMillis", timing.getWallMillis());
+            test.put("navigationMillis", timing.getNavigationMillis());
+            test.put("waitMillis", timing.getWaitMillis());
+            test.put("commandMillis", timing.getCommandMillis());
+            test.put("otherMillis", timing.getOtherMillis());
+            test.put("commandCount", timing.getCommandCount());
+            test.put("commands", timing.getCommandCounts());
+            test.put("requests", timing.getNetwork().getRequests());
+            test.put("bytes", timing.getNetwork().getBytes());
+            test.put("blockedRequests", timing.getNetwork().getBlocked());
+            test.put("cachedRequests", timing.getNetwork().getCached());
+            test.put("consoleErrors", timing.getEvents().getConsoleErrors());
+            test.put("jsExceptions", timing.getEvents().getExceptions());
+            test.put("domCommits", timing.getEvents().getCommits());
+            test.put("domMutations", timing.getEvents().getMutations());
+            test.put("renderChurn", timing.isRenderChurn());
+            if (!timing.getEvents().getMessages().isEmpty()) {
+                test.put("consoleMessages", timing.getEvents().getMessages());
+            }
+            PageMetrics metrics = timing.getPageMetrics();
+            if (metrics != null) {
+                Map<String, Object> pageLoad = new LinkedHashMap<>();
+                pageLoad.put("ttfbMillis", metrics.getTimeToFirstByte());
+                pageLoad.put("domContentLoadedMillis", metrics.getDomContentLoaded());
+                pageLoad.put("loadMillis", metrics.getLoad());
+                pageLoad.put("fcpMillis", metrics.getFirstContentfulPaint());
+                pageLoad.put("lcpMillis", metrics.getLargestContentfulPaint());
+                pageLoad.put("cls", metrics.getCumulativeLayoutShift());
+                pageLoad.put("longTasks", metrics.getLongTasks());
+                pageLoad.put("tbtMillis", metrics.getTotalBlockingTime());
+                test.put("pageLoad", pageLoad);
+            }
+            if (timing.getCapture() != null) {
+                test.put("capture", timing.getCapture());
+            }
+            tests.add(test);
+        }
+
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("runId", runId);
+        if (fork.isForked()) {
+            run.put("fork", fork.number());
+        }
+        run.put("tests", tests);
+        return new Json().toJson(run);
+    }
+
+    String toCsv() {
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (TestTiming timing : timings) {
+            csv.append(csvRow(timing)).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static String csvRow(TestTiming timing) {
+        StringBuilder csv = new StringBuilder();
+        StringBuilder commands = new StringBuilder();
+        for (Map.Entry<String, Integer> entry : timing.getCommandCounts().entrySet()) {
+            if (commands.length() > 0) {
+                commands.append(';');
+            }
+            commands.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        csv.append(timing.getSuite()).append(',')
+                .append(timing.getTest()).append(',')
+                .append(timing.isPassed() ? "PASSED" : "FAILED").append(',')
+                .append(timing.getWallMillis()).append(',')
+                .append(timing.getNavigationMillis()).append(',')
+                .append(timing.getWaitMillis()).append(',')
+                .append(timing.getCommandMillis()).append(',')
+                .append(timing.getOtherMillis()).append(',')
+                .append(timing.getCommandCount()).append(',')
+                .append(commands).append(',')
+                .append(timing.getNetwork().getRequests()).append(',')
+                .append(timing.getNetwork().getBytes()).append(',')
+                .append(timing.getNetwork().getBlocked()).append(',')
+                .append(timing.getNetwork().getCached()).append(',');
+        PageMetrics metrics = timing.getPageMetrics();
+        if (metrics != null) {
+            csv.append(String.format(Locale.ROOT, "%.0f,%.0f,%.4f,%.0f", metrics.getFirstContentfulPaint(),
+                    metrics.getLargestContentfulPaint(), metrics.getCumulativeLayoutShift(),
+                    metrics.getTotalBlockingTime()));
+        } else {
+            csv.append(",,,");
+        }
+        csv.append(',').append(timing.getEvents().getConsoleErrors())
+                .append(',').append(timing.getEvents().getExceptions())
+                .append(',').append(timing.getEvents().getCommits())
+                .append(',').append(timing.getEvents().getMutations())
+                .append(',').append(timing.isRenderChurn());
+        csv.append(',').append(timing.getCapture() == null ? "" : timing.getCapture());
+        return csv.toString();
+    }
+
+    // Merges every fork's files for this run; the lock keeps forks finishing together from interleaving
+    @SuppressWarnings("unchecked")
+    private void aggregateForks() throws IOException {
+        String prefix = "run-" + runId + "-fork";
+        try (FileChannel channel = FileChannel.open(directory.resolve("run-" + runId + ".lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock lock = channel.lock()) {
+            List<Path> forkFiles;
+            try (Stream<Path> files = Files.list(directory)) {
+                forkFiles = files.filter(path -> path.getFileName().toString().startsWith(prefix)
+                                && path.getFileName().toString().endsWith(".json"))
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+
+            Json json = new Json();
+            List<Object> tests = new ArrayList<>();
+            StringBuilder csv = new StringBuilder("fork,").append(CSV_HEADER).append('\n');
+            for (Path forkJson : forkFiles) {
+                Map<String, Object> forkRun = json.toType(
+                        new String(Files.readAllBytes(forkJson), StandardCharsets.UTF_8), Json.MAP_TYPE);
+                Object forkNumber = forkRun.get("fork");
+                for (Object test : (List<Object>) forkRun.get("tests")) {
+                    Map<String, Object> withFork = new LinkedHashMap<>();
+                    withFork.put("fork", forkNumber);
+                    withFork.putAll((Map<String, Object>) test);
+                    tests.add(withFork);
+                }
+
+                Path forkCsv = forkJson.resolveSibling(forkJson.getFileName().toString().replace(".json", ".csv"));
+                if (Files.exists(forkCsv)) {
+                    List<String> lines = Files.readAllLines(forkCsv, StandardCharsets.UTF_8);
+                    for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+                        csv.append(forkNumber).append(',').append(line).append('\n');
+                    }
+                }
+            }
+
+            Map<String, Object> run = new LinkedHashMap<>();
+            run.put("runId", runId);
+            run.put("forks", forkFiles.size());
+            run.put("tests", tests);
+            Path aggregateJson = directory.resolve("run-" + runId + ".json");
+            Path aggregateCsv = directory.resolve("run-" + runId + ".csv");
+            Files.write(aggregateJson, json.toJson(run).getBytes(StandardCharsets.UTF_8));
+            Files.write(aggregateCsv, csv.toString().getBytes(StandardCharsets.UTF_8));
+            System.out.println("Run report: " + tests.size() + " tests from " + forkFiles.size()
+                    + " fork(s) -> " + aggregateJson + ", " + aggregateCsv);
+        }
+    }
+}
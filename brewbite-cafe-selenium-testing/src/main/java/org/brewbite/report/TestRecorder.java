@@ -0,0 +1,97 @@
+package org.brewbite.report;
+
+import org.brewbite.events.EventStats;
+import org.brewbite.metrics.PageMetrics;
+import org.brewbite.network.NetworkStats;
+import org.brewbite.wait.WaitLog;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Marks the start and end of a test case on the calling thread. While a
+ * test is running, {@link CommandListener} charges WebDriver commands to
+ * it; when it finishes, its {@link TestTiming} is added to the shared
+ * {@link RunReport}.
+ */
+public final class TestRecorder {
+
+    private static final ThreadLocal<TestTiming> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> WAITS_BEFORE = new ThreadLocal<>();
+
+    private TestRecorder() {
+    }
+
+    public static void start(String suite, String test) {
+        CURRENT.set(new TestTiming(suite, test));
+        WAITS_BEFORE.set(WaitLog.current().records().size());
+    }
+
+    // Network traffic of the test's browser between start and finish, measured by the caller
+    public static void recordNetwork(NetworkStats network) {
+        TestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.recordNetwork(network);
+        }
+    }
+
+    // Console errors, exceptions and DOM mutations the page pushed out during the test
+    public static void recordEvents(EventStats events) {
+        TestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.recordEvents(events);
+        }
+    }
+
+    // Metrics of a page load that happened as part of the current test
+    public static void recordPageMetrics(PageMetrics metrics) {
+        TestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.recordPageMetrics(metrics);
+        }
+    }
+
+    // Wraps a task for another thread so the commands it makes are charged to the calling thread's test
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        TestTiming timing = CURRENT.get();
+        return () -> {
+            TestTiming previous = CURRENT.get();
+            CURRENT.set(timing);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * Ends the current test and returns its timing, or {@code null} if no
+     * test was started on this thread.
+     */
+    public static TestTiming finish(boolean passed) {
+        TestTiming timing = CURRENT.get();
+        if (timing == null) {
+            return null;
+        }
+        CURRENT.remove();
+
+        List<WaitLog.WaitRecord> records = WaitLog.current().records();
+        long waitNanos = 0;
+        for (int i = Math.min(WAITS_BEFORE.get(), records.size()); i < records.size(); i++) {
+            waitNanos += records.get(i).getNanos();
+        }
+        WAITS_BEFORE.remove();
+
+        timing.finish(passed, waitNanos);
+        RunReport.shared().add(timing);
+        return timing;
+    }
+
+    static TestTiming current() {
+        return CURRENT.get();
+    }
+}
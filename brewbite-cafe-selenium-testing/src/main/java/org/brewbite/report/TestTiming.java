@@ -0,0 +1,165 @@
+package org.brewbite.report;
+
+import org.brewbite.events.EventStats;
+import org.brewbite.events.PageEvents;
+import org.brewbite.metrics.PageMetrics;
+import org.brewbite.network.NetworkStats;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Where one test case spent its time: navigation commands, explicit waits,
+ * all other WebDriver commands, and whatever is left over on the Java side,
+ * plus the network traffic and page events of the browser while it ran. Filled in by
+ * {@link TestRecorder} and {@link CommandListener}.
+ */
+public class TestTiming {
+
+    private final String suite;
+    private final String test;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    // Commands may be recorded from several threads at once, e.g. the windows of a TabFanOut
+    private final Map<String, Integer> commandCounts = new ConcurrentSkipListMap<>();
+    private long wallNanos;
+    private final LongAdder navigationNanos = new LongAdder();
+    private final LongAdder commandNanos = new LongAdder();
+    private long waitNanos;
+    private boolean passed;
+    private NetworkStats network = NetworkStats.NONE;
+    private EventStats events = EventStats.NONE;
+    private PageMetrics pageMetrics;
+    private volatile String capture;
+
+    TestTiming(String suite, String test) {
+        this.suite = suite;
+        this.test = test;
+    }
+
+    void recordCommand(String command, boolean navigation, long nanos) {
+        commandCounts.merge(command, 1, Integer::sum);
+        if (navigation) {
+            navigationNanos.add(nanos);
+        } else {
+            commandNanos.add(nanos);
+        }
+    }
+
+    void recordNetwork(NetworkStats network) {
+        this.network = network;
+    }
+
+    void recordEvents(EventStats events) {
+        this.events = events;
+    }
+
+    void recordPageMetrics(PageMetrics pageMetrics) {
+        this.pageMetrics = pageMetrics;
+    }
+
+    // Set after finish(), from the failing thread, while the report may already hold this timing
+    void recordCapture(String capture) {
+        this.capture = capture;
+    }
+
+    void finish(boolean passed, long waitNanos) {
+        this.wallNanos = System.nanoTime() - startNanos;
+        this.passed = passed;
+        this.waitNanos = waitNanos;
+    }
+
+    public String getSuite() {
+        return suite;
+    }
+
+    public String getTest() {
+        return test;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public long getWallMillis() {
+        return millis(wallNanos);
+    }
+
+    public long getNavigationMillis() {
+        return millis(navigationNanos.sum());
+    }
+
+    // Explicit waits from the WaitEngine; their scripts are not counted again as commands
+    public long getWaitMillis() {
+        return millis(waitNanos);
+    }
+
+    public long getCommandMillis() {
+        return millis(Math.max(0, commandNanos.sum() - waitNanos));
+    }
+
+    // Wall time not spent in the browser: assertions, Finder polling sleeps, reporting
+    public long getOtherMillis() {
+        return millis(Math.max(0, wallNanos - navigationNanos.sum() - Math.max(commandNanos.sum(), waitNanos)));
+    }
+
+    public int getCommandCount() {
+        int total = 0;
+        for (int count : commandCounts.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    public Map<String, Integer> getCommandCounts() {
+        return Collections.unmodifiableMap(commandCounts);
+    }
+
+    // All zero when the browser has no network tap
+    public NetworkStats getNetwork() {
+        return network;
+    }
+
+    // All zero when the browser has no page events attached
+    public EventStats getEvents() {
+        return events;
+    }
+
+    // More DOM commits than brewbite.events.maxCommits allows, e.g. a component re-rendering in a loop
+    public boolean isRenderChurn() {
+        return events.getCommits() > PageEvents.maxCommits();
+    }
+
+    // Null unless the page was loaded during this test
+    public PageMetrics getPageMetrics() {
+        return pageMetrics;
+    }
+
+    // Path of the failure capture without extension, null for passed cases
+    public String getCapture() {
+        return capture;
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    // e.g. "412 ms (navigation 180, waits 95, commands 120 in 14 calls, other 17; 14 requests, 182 KB, ...)"
+    @Override
+    public String toString() {
+        return getWallMillis() + " ms (navigation " + getNavigationMillis()
+                + ", waits " + getWaitMillis()
+                + ", commands " + getCommandMillis() + " in " + getCommandCount() + " calls"
+                + ", other " + getOtherMillis()
+                + (network.getRequests() == 0 ? "" : "; " + network)
+                + (events.isEmpty() ? "" : "; " + events)
+                + (pageMetrics == null ? "" : "; " + pageMetrics) + ")";
+    }
+}
@@ -0,0 +1,136 @@
+package org.brewbite.schedule;
+
+import org.brewbite.cases.TestCase;
+import org.brewbite.config.HarnessConfig;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Orders cases from their {@link TestHistory}: cases that failed in one of
+ * the last {@value #RECENT_FAILURE_RUNS} runs first, most recent failure
+ * first, then the rest longest first. Handing the longest cases out first to
+ * whichever worker is free (longest-processing-time scheduling) keeps one
+ * slow case from starting last and holding up the end of the run. Cases
+ * without history are assumed to take the average time.
+ *
+ * {@code brewbite.schedule=declared} keeps the order the cases are declared in.
+ */
+public final class CaseScheduler {
+
+    public static final String MODE_KEY = "brewbite.schedule";
+    public static final int RECENT_FAILURE_RUNS = 3;
+
+    private final TestHistory history;
+
+    private CaseScheduler(TestHistory history) {
+        this.history = history;
+    }
+
+    public static CaseScheduler declared() {
+        return new CaseScheduler(null);
+    }
+
+    public static CaseScheduler withHistory(TestHistory history) {
+        return new CaseScheduler(history);
+    }
+
+    public static CaseScheduler fromConfig(HarnessConfig config) {
+        String mode = config.get(MODE_KEY, "history").toLowerCase(Locale.ROOT);
+        switch (mode) {
+            case "history":
+                return withHistory(TestHistory.shared());
+            case "declared":
+                return declared();
+            default:
+                throw new IllegalArgumentException(MODE_KEY + " must be 'history' or 'declared', was '" + mode + "'");
+        }
+    }
+
+    /**
+     * Returns the cases in the order to start them and prints the plan.
+     *
+     * @param label   suite the cases belong to, shown with the plan
+     * @param key     history key of a case, e.g. "TC-03" or "TC-03@prod-mobile"
+     * @param workers cases running at the same time, used for the predicted run time
+     */
+    public List<TestCase> order(String label, List<TestCase> cases, Function<TestCase, String> key, int workers) {
+        if (history == null || cases.isEmpty()) {
+            return cases;
+        }
+        List<Planned> planned = new ArrayList<>();
+        long knownMillis = 0;
+        int known = 0;
+        for (TestCase testCase : cases) {
+            TestHistory.Entry entry = history.get(key.apply(testCase));
+            planned.add(new Planned(testCase, entry));
+            if (entry != null) {
+                knownMillis += entry.getMillis();
+                known++;
+            }
+        }
+        if (known == 0) {
+            System.out.println("Schedule for " + label + ": no history yet, declared order");
+            return cases;
+        }
+        long averageMillis = knownMillis / known;
+        for (Planned plan : planned) {
+            plan.millis = plan.entry == null ? averageMillis : plan.entry.getMillis();
+        }
+
+        // List.sort is stable, so ties keep the declared order
+        planned.sort(Comparator.comparingInt(Planned::failureRank).thenComparing(Comparator.comparingLong(
+                (Planned plan) -> plan.millis).reversed()));
+
+        List<TestCase> ordered = new ArrayList<>();
+        long serialMillis = 0;
+        int failing = 0;
+        for (Planned plan : planned) {
+            ordered.add(plan.testCase);
+            serialMillis += plan.millis;
+            if (plan.failureRank() <= RECENT_FAILURE_RUNS) {
+                failing++;
+            }
+        }
+        System.out.println(String.format(Locale.ROOT,
+                "Schedule for %s: %d recently failed first, %d longest first; about %.1f s on %d worker(s) (%.1f s of work)",
+                label, failing, ordered.size() - failing, predictMillis(planned, workers) / 1000.0,
+                Math.max(1, workers), serialMillis / 1000.0));
+        return ordered;
+    }
+
+    // Run time when every case goes to the worker that frees up first
+    private static long predictMillis(List<Planned> planned, int workers) {
+        PriorityQueue<Long> loads = new PriorityQueue<>();
+        for (int i = 0; i < Math.max(1, workers); i++) {
+            loads.add(0L);
+        }
+        long end = 0;
+        for (Planned plan : planned) {
+            long finish = loads.poll() + plan.millis;
+            loads.add(finish);
+            end = Math.max(end, finish);
+        }
+        return end;
+    }
+
+    private static final class Planned {
+        final TestCase testCase;
+        final TestHistory.Entry entry;
+        long millis;
+
+        Planned(TestCase testCase, TestHistory.Entry entry) {
+            this.testCase = testCase;
+            this.entry = entry;
+        }
+
+        // Runs since the last failure if recent enough, otherwise after every failing case
+        int failureRank() {
+            int since = entry == null ? 0 : entry.runsSinceFailure();
+            return since == 0 || since > RECENT_FAILURE_RUNS ? Integer.MAX_VALUE : since;
+        }
+    }
+}
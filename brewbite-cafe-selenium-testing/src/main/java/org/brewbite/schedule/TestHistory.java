@@ -0,0 +1,232 @@
+package org.brewbite.schedule;
+
+import org.brewbite.config.HarnessConfig;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Duration and recent outcomes of every case, kept across runs in
+ * {@code brewbite.history.file} (default {@code .brewbite/history.json}).
+ * Durations are an exponentially weighted average of wall times, so one slow
+ * run does not reorder the suite on its own.
+ *
+ * The file is read once and written by a shutdown hook. Writing replays this
+ * JVM's results on top of whatever is on disk at that moment, under a file
+ * lock, so parallel surefire forks all add to the same history.
+ */
+public final class TestHistory {
+
+    public static final String FILE_PROPERTY = "brewbite.history.file";
+    public static final String DEFAULT_FILE = ".brewbite/history.json";
+
+    // Weight of the newest run in the average duration
+    private static final double ALPHA = 0.5;
+    // Outcomes kept per case, newest last
+    static final int OUTCOMES_KEPT = 10;
+
+    private static TestHistory shared;
+
+    private final Path file;
+    private final Map<String, Entry> entries;
+    private final Map<String, List<Sample>> recorded = new ConcurrentHashMap<>();
+
+    TestHistory(Path file, Map<String, Entry> entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    public static synchronized TestHistory shared() {
+        if (shared == null) {
+            Path file = Paths.get(HarnessConfig.shared().get(FILE_PROPERTY, DEFAULT_FILE));
+            TestHistory history = new TestHistory(file, new ConcurrentHashMap<>(read(file)));
+            Runtime.getRuntime().addShutdownHook(new Thread(history::save, "test-history-writer"));
+            shared = history;
+        }
+        return shared;
+    }
+
+    // Last known entry of the case, or null if it never ran
+    public Entry get(String key) {
+        return entries.get(key);
+    }
+
+    public void record(String key, long wallMillis, boolean passed) {
+        Sample sample = new Sample(wallMillis, passed);
+        List<Sample> samples = recorded.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()));
+        // Older samples no longer show in a replayed entry (outcomes are capped, their weight in the average
+        // is below 0.1%), so a soak run does not grow this list without bound
+        synchronized (samples) {
+            samples.add(sample);
+            if (samples.size() > OUTCOMES_KEPT) {
+                samples.remove(0);
+            }
+        }
+        entries.merge(key, Entry.of(sample), (entry, ignored) -> entry.plus(sample));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public synchronized void save() {
+        if (recorded.isEmpty()) {
+            return;
+        }
+        try {
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock lock = channel.lock()) {
+                Map<String, Entry> merged = new TreeMap<>(parse(readAll(channel)));
+                for (Map.Entry<String, List<Sample>> samples : recorded.entrySet()) {
+                    for (Sample sample : samples.getValue()) {
+                        merged.merge(samples.getKey(), Entry.of(sample), (entry, ignored) -> entry.plus(sample));
+                    }
+                }
+                byte[] json = toJson(merged).getBytes(StandardCharsets.UTF_8);
+                channel.truncate(0);
+                channel.write(ByteBuffer.wrap(json), 0);
+            }
+            System.out.println("Test history: " + recorded.size() + " case(s) updated -> " + file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write test history to " + file, e);
+        }
+    }
+
+    private static Map<String, Entry> read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Map.of();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             FileLock lock = channel.lock(0, Long.MAX_VALUE, true)) {
+            return parse(readAll(channel));
+        } catch (IOException e) {
+            System.out.println("Test history: could not read " + file + " - " + e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static String readAll(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Entry> parse(String json) {
+        Map<String, Entry> entries = new TreeMap<>();
+        if (json.isBlank()) {
+            return entries;
+        }
+        try {
+            Map<String, Object> root = new Json().toType(json, Json.MAP_TYPE);
+            Map<String, Object> cases = (Map<String, Object>) root.getOrDefault("cases", Map.of());
+            for (Map.Entry<String, Object> item : cases.entrySet()) {
+                Map<String, Object> entry = (Map<String, Object>) item.getValue();
+                entries.put(item.getKey(), new Entry(
+                        ((Number) entry.get("millis")).doubleValue(),
+                        ((Number) entry.get("runs")).intValue(),
+                        (String) entry.get("outcomes")));
+            }
+        } catch (JsonException | ClassCastException | NullPointerException e) {
+            // A damaged history only costs the ordering of one run; it is rewritten on exit
+            System.out.println("Test history: ignoring unreadable history - " + e.getMessage());
+            entries.clear();
+        }
+        return entries;
+    }
+
+    private static String toJson(Map<String, Entry> entries) {
+        Map<String, Object> cases = new TreeMap<>();
+        for (Map.Entry<String, Entry> item : entries.entrySet()) {
+            Entry entry = item.getValue();
+            cases.put(item.getKey(), Map.of(
+                    "millis", Math.round(entry.millis),
+                    "runs", entry.runs,
+                    "outcomes", entry.outcomes));
+        }
+        return new Json().toJson(Map.of("cases", cases));
+    }
+
+    private static final class Sample {
+        final long millis;
+        final boolean passed;
+
+        Sample(long millis, boolean passed) {
+            this.millis = millis;
+            this.passed = passed;
+        }
+    }
+
+    /**
+     * What is known about one case: its average wall time, how often it ran
+     * and its last ten outcomes as {@code P}/{@code F},
+     * newest last.
+     */
+    public static final class Entry {
+        private final double millis;
+        private final int runs;
+        private final String outcomes;
+
+        Entry(double millis, int runs, String outcomes) {
+            this.millis = millis;
+            this.runs = runs;
+            this.outcomes = outcomes;
+        }
+
+        static Entry of(Sample sample) {
+            return new Entry(sample.millis, 1, sample.passed ? "P" : "F");
+        }
+
+        Entry plus(Sample sample) {
+            String appended = outcomes + (sample.passed ? "P" : "F");
+            return new Entry(ALPHA * sample.millis + (1 - ALPHA) * millis, runs + 1,
+                    appended.substring(Math.max(0, appended.length() - OUTCOMES_KEPT)));
+        }
+
+        public long getMillis() {
+            return Math.round(millis);
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+
+        public String getOutcomes() {
+            return outcomes;
+        }
+
+        // How many runs ago the case last failed (1 = the last run), or 0 if none of the kept runs failed
+        public int runsSinceFailure() {
+            int last = outcomes.lastIndexOf('F');
+            return last < 0 ? 0 : outcomes.length() - last;
+        }
+
+        @Override
+        public String toString() {
+            return getMillis() + " ms avg over " + runs + " run(s), recent " + outcomes;
+        }
+    }
+}
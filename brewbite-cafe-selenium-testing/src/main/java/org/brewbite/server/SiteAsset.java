@@ -0,0 +1,135 @@
+package org.brewbite.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * One file of the static build, held in memory together with its gzip form
+ * and both sets of response headers, so serving it is a buffer copy.
+ */
+final class SiteAsset {
+
+    private static final Map<String, String> CONTENT_TYPES = Map.ofEntries(
+            Map.entry("html", "text/html; charset=utf-8"),
+            Map.entry("js", "text/javascript; charset=utf-8"),
+            Map.entry("mjs", "text/javascript; charset=utf-8"),
+            Map.entry("css", "text/css; charset=utf-8"),
+            Map.entry("json", "application/json"),
+            Map.entry("map", "application/json"),
+            Map.entry("txt", "text/plain; charset=utf-8"),
+            Map.entry("svg", "image/svg+xml"),
+            Map.entry("png", "image/png"),
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("jpeg", "image/jpeg"),
+            Map.entry("gif", "image/gif"),
+            Map.entry("webp", "image/webp"),
+            Map.entry("avif", "image/avif"),
+            Map.entry("ico", "image/x-icon"),
+            Map.entry("woff", "font/woff"),
+            Map.entry("woff2", "font/woff2"));
+
+    // Below this saving the identity body is served, gzip would only cost the browser time
+    private static final int MIN_GZIP_SAVING = 64;
+
+    private final String path;
+    private final String etag;
+    private final byte[] identityHeaders;
+    private final byte[] gzipHeaders;
+    private final ByteBuffer identityBody;
+    private final ByteBuffer gzipBody;
+
+    SiteAsset(String path, byte[] content) {
+        this.path = path;
+        this.etag = etag(content);
+
+        String type = CONTENT_TYPES.getOrDefault(extension(path), "application/octet-stream");
+        // Vite fingerprints everything under /assets/, so those never change for a given URL
+        String cacheControl = path.startsWith("/assets/") ? "public, max-age=31536000, immutable" : "no-cache";
+
+        byte[] gzipped = type.startsWith("image/") && !type.equals("image/svg+xml") || type.startsWith("font/")
+                ? null : gzip(content);
+        boolean useGzip = gzipped != null && gzipped.length + MIN_GZIP_SAVING < content.length;
+
+        this.identityBody = ByteBuffer.wrap(content).asReadOnlyBuffer();
+        this.gzipBody = useGzip ? ByteBuffer.wrap(gzipped).asReadOnlyBuffer() : null;
+        this.identityHeaders = headers(type, cacheControl, content.length, null);
+        this.gzipHeaders = useGzip ? headers(type, cacheControl, gzipped.length, "gzip") : null;
+    }
+
+    String path() {
+        return path;
+    }
+
+    String etag() {
+        return etag;
+    }
+
+    boolean hasGzip() {
+        return gzipBody != null;
+    }
+
+    int size() {
+        return identityBody.capacity();
+    }
+
+    int gzipSize() {
+        return hasGzip() ? gzipBody.capacity() : size();
+    }
+
+    // Status line is written by the server; these are the remaining headers ending in CRLF CRLF
+    byte[] headers(boolean gzip) {
+        return gzip ? gzipHeaders : identityHeaders;
+    }
+
+    // Independent view of the shared body, safe to drain on one connection
+    ByteBuffer body(boolean gzip) {
+        return (gzip ? gzipBody : identityBody).duplicate();
+    }
+
+    private byte[] headers(String type, String cacheControl, int length, String encoding) {
+        StringBuilder headers = new StringBuilder()
+                .append("Content-Type: ").append(type).append("\r\n")
+                .append("Content-Length: ").append(length).append("\r\n")
+                .append("Cache-Control: ").append(cacheControl).append("\r\n")
+                .append("ETag: ").append(etag).append("\r\n")
+                .append("Vary: Accept-Encoding\r\n");
+        if (encoding != null) {
+            headers.append("Content-Encoding: ").append(encoding).append("\r\n");
+        }
+        return headers.append("\r\n").toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String extension(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot < 0 ? "" : path.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static String etag(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(content.length) + "\"";
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2 + 64);
+        // Compressed once at startup, so the slowest level costs nothing per request
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
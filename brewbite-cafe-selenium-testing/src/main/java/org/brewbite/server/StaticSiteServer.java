@@ -0,0 +1,375 @@
+package org.brewbite.server;
+
+import org.brewbite.config.HarnessConfig;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Serves the {@code vite build} output of the app under test from memory,
+ * so a page load is the production bundle - one HTML file and a handful of
+ * hashed assets - instead of the dev server compiling dozens of ES modules
+ * on demand.
+ *
+ * Every file is read and gzipped once at startup. A single selector thread
+ * answers {@code GET} and {@code HEAD} over keep-alive connections, honours
+ * {@code If-None-Match}, and falls back to {@code index.html} for extension-less
+ * paths like a single-page app host would. It only binds the loopback interface.
+ *
+ * The JVM-wide server from {@link #shared()} serves {@code brewbite.site.dir}
+ * (default {@code ../selenium-testing-app/dist}) on {@code brewbite.site.port}
+ * (default: any free port).
+ */
+public class StaticSiteServer implements AutoCloseable {
+
+    public static final String DIR_PROPERTY = "brewbite.site.dir";
+    public static final String PORT_PROPERTY = "brewbite.site.port";
+    public static final String DEFAULT_DIR = "../selenium-testing-app/dist";
+
+    private static final int MAX_REQUEST_HEAD = 8 * 1024;
+    private static final byte[] NOT_FOUND = response("404 Not Found", "Not found");
+    private static final byte[] NOT_ALLOWED = response("405 Method Not Allowed", "Only GET and HEAD are supported");
+    private static final byte[] TOO_LARGE = response("431 Request Header Fields Too Large", "Request head too large");
+
+    private static StaticSiteServer shared;
+
+    private final Path root;
+    private final Map<String, SiteAsset> assets;
+    private final ServerSocketChannel server;
+    private final Selector selector;
+    private final Thread loop;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private volatile boolean running = true;
+
+    private StaticSiteServer(Path root, Map<String, SiteAsset> assets, int port) throws IOException {
+        this.root = root;
+        this.assets = assets;
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 128);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+
+        this.loop = new Thread(this::serve, "static-site-server");
+        loop.setDaemon(true);
+        loop.start();
+    }
+
+    /**
+     * Loads every file under {@code root} into memory and starts serving it.
+     *
+     * @param port port to bind on the loopback interface, 0 for any free port
+     */
+    public static StaticSiteServer start(Path root, int port) {
+        if (!Files.isRegularFile(root.resolve("index.html"))) {
+            throw new IllegalArgumentException("No index.html in " + root.toAbsolutePath()
+                    + " - run 'npm run build' in selenium-testing-app first");
+        }
+        try {
+            return new StaticSiteServer(root, load(root), port);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start static site server for " + root, e);
+        }
+    }
+
+    // The app build served by shared(), brewbite.site.dir
+    public static Path siteDir() {
+        return Paths.get(HarnessConfig.shared().get(DIR_PROPERTY, DEFAULT_DIR));
+    }
+
+    /**
+     * JVM-wide server over {@code brewbite.site.dir}, or {@code null} if that
+     * directory has no build in it. Closed by a shutdown hook.
+     */
+    public static synchronized StaticSiteServer shared() {
+        if (shared == null) {
+            Path root = siteDir();
+            if (!Files.isRegularFile(root.resolve("index.html"))) {
+                return null;
+            }
+            StaticSiteServer server = start(root, HarnessConfig.shared().getInt(PORT_PROPERTY, 0));
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close, "static-site-server-shutdown"));
+            System.out.println("Static site: " + server);
+            shared = server;
+        }
+        return shared;
+    }
+
+    private static Map<String, SiteAsset> load(Path root) throws IOException {
+        Map<String, SiteAsset> assets = new HashMap<>();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                String path = "/" + root.relativize(file).toString().replace('\\', '/');
+                assets.put(path, new SiteAsset(path, Files.readAllBytes(file)));
+            }
+        }
+        return assets;
+    }
+
+    // e.g. "http://127.0.0.1:41234/"
+    public String baseUrl() {
+        return "http://" + address().getAddress().getHostAddress() + ":" + address().getPort() + "/";
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public long bytesSent() {
+        return bytesSent.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            loop.join(1000);
+            server.close();
+            selector.close();
+        } catch (IOException e) {
+            // Shutting down anyway
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private InetSocketAddress address() {
+        try {
+            return (InetSocketAddress) server.getLocalAddress();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void serve() {
+        while (running) {
+            try {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            Connection connection = (Connection) key.attachment();
+                            if (key.isReadable()) {
+                                connection.read(key);
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.write(key);
+                            }
+                        }
+                    } catch (IOException e) {
+                        // Browser went away mid-request
+                        closeQuietly(key);
+                    }
+                }
+            } catch (IOException e) {
+                if (running) {
+                    System.out.println("Static site: selector failed - " + e.getMessage());
+                }
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            closeQuietly(key);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            channel.register(selector, SelectionKey.OP_READ, new Connection(channel));
+        }
+    }
+
+    private static void closeQuietly(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+
+    private static byte[] response(String status, String message) {
+        return ("HTTP/1.1 " + status + "\r\n"
+                + "Content-Type: text/plain; charset=utf-8\r\n"
+                + "Content-Length: " + message.length() + "\r\n"
+                + "Connection: close\r\n\r\n" + message).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public String toString() {
+        long size = 0;
+        long gzipSize = 0;
+        for (SiteAsset asset : assets.values()) {
+            size += asset.size();
+            gzipSize += asset.gzipSize();
+        }
+        return assets.size() + " files (" + size / 1024 + " KB, " + gzipSize / 1024 + " KB gzipped) from "
+                + root + " at " + baseUrl();
+    }
+
+    /** One keep-alive connection: buffers the request head, queues whole responses. */
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final ByteBuffer in = ByteBuffer.allocate(MAX_REQUEST_HEAD);
+        private final ArrayDeque<ByteBuffer> out = new ArrayDeque<>();
+        private boolean closeAfterWrite;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void read(SelectionKey key) throws IOException {
+            if (channel.read(in) < 0) {
+                closeQuietly(key);
+                return;
+            }
+            // Browsers may pipeline, so answer every complete head in the buffer
+            int end;
+            while (!closeAfterWrite && (end = headEnd()) >= 0) {
+                String head = new String(in.array(), 0, end, StandardCharsets.ISO_8859_1);
+                int consumed = end + 4;
+                in.flip().position(consumed);
+                in.compact();
+                respond(head);
+            }
+            if (!closeAfterWrite && !in.hasRemaining()) {
+                out.add(ByteBuffer.wrap(TOO_LARGE));
+                closeAfterWrite = true;
+            }
+            if (!out.isEmpty()) {
+                key.interestOps(SelectionKey.OP_WRITE);
+            }
+        }
+
+        void write(SelectionKey key) throws IOException {
+            while (!out.isEmpty()) {
+                ByteBuffer next = out.peek();
+                bytesSent.addAndGet(channel.write(next));
+                if (next.hasRemaining()) {
+                    return;
+                }
+                out.poll();
+            }
+            if (closeAfterWrite) {
+                closeQuietly(key);
+            } else {
+                key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        private int headEnd() {
+            byte[] bytes = in.array();
+            for (int i = 0; i + 3 < in.position(); i++) {
+                if (bytes[i] == '\r' && bytes[i + 1] == '\n' && bytes[i + 2] == '\r' && bytes[i + 3] == '\n') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void respond(String head) {
+            requests.incrementAndGet();
+            String[] lines = head.split("\r\n");
+            String[] requestLine = lines[0].split(" ");
+            if (requestLine.length != 3) {
+                out.add(ByteBuffer.wrap(NOT_ALLOWED));
+                closeAfterWrite = true;
+                return;
+            }
+            String method = requestLine[0];
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                out.add(ByteBuffer.wrap(NOT_ALLOWED));
+                closeAfterWrite = true;
+                return;
+            }
+
+            boolean acceptsGzip = false;
+            boolean keepAlive = requestLine[2].equals("HTTP/1.1");
+            String ifNoneMatch = null;
+            for (int i = 1; i < lines.length; i++) {
+                int colon = lines[i].indexOf(':');
+                if (colon < 0) {
+                    continue;
+                }
+                String name = lines[i].substring(0, colon).trim().toLowerCase(Locale.ROOT);
+                String value = lines[i].substring(colon + 1).trim();
+                if (name.equals("accept-encoding")) {
+                    acceptsGzip = value.toLowerCase(Locale.ROOT).contains("gzip");
+                } else if (name.equals("if-none-match")) {
+                    ifNoneMatch = value;
+                } else if (name.equals("connection")) {
+                    keepAlive = !value.equalsIgnoreCase("close");
+                }
+            }
+
+            SiteAsset asset = resolve(requestLine[1]);
+            if (asset == null) {
+                out.add(ByteBuffer.wrap(NOT_FOUND));
+                closeAfterWrite = true;
+                return;
+            }
+
+            String connection = keepAlive ? "keep-alive" : "close";
+            if (asset.etag().equals(ifNoneMatch)) {
+                out.add(ascii("HTTP/1.1 304 Not Modified\r\nETag: " + asset.etag()
+                        + "\r\nConnection: " + connection + "\r\n\r\n"));
+            } else {
+                boolean gzip = acceptsGzip && asset.hasGzip();
+                out.add(ascii("HTTP/1.1 200 OK\r\nConnection: " + connection + "\r\n"));
+                out.add(ByteBuffer.wrap(asset.headers(gzip)));
+                if (method.equals("GET")) {
+                    out.add(asset.body(gzip));
+                }
+            }
+            closeAfterWrite = !keepAlive;
+        }
+
+        private SiteAsset resolve(String target) {
+            int query = target.indexOf('?');
+            String path = query < 0 ? target : target.substring(0, query);
+            if (path.endsWith("/")) {
+                path += "index.html";
+            }
+            SiteAsset asset = assets.get(path);
+            if (asset == null && path.lastIndexOf('.') < path.lastIndexOf('/')) {
+                // Client-side route, e.g. /menu
+                asset = assets.get("/index.html");
+            }
+            return asset;
+        }
+
+        private ByteBuffer ascii(String text) {
+            return ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+}
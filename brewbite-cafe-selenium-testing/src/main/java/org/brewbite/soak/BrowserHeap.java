@@ -0,0 +1,124 @@
+package org.brewbite.soak;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Memory of one browser's current page: JS heap plus the DOM node, document
+ * and event listener counts from DevTools {@code Performance.getMetrics}.
+ * Browsers without DevTools fall back to {@code performance.memory}, which
+ * only has the heap; the counts are then -1.
+ */
+public final class BrowserHeap {
+
+    public static final BrowserHeap UNKNOWN = new BrowserHeap(-1, -1, -1, -1, -1);
+
+    private static final String MEMORY_SCRIPT =
+            "var m = performance.memory; return m ? [m.usedJSHeapSize, m.totalJSHeapSize] : null;";
+
+    private final long usedBytes;
+    private final long totalBytes;
+    private final long nodes;
+    private final long documents;
+    private final long listeners;
+
+    BrowserHeap(long usedBytes, long totalBytes, long nodes, long documents, long listeners) {
+        this.usedBytes = usedBytes;
+        this.totalBytes = totalBytes;
+        this.nodes = nodes;
+        this.documents = documents;
+        this.listeners = listeners;
+    }
+
+    // Never fails; a browser that cannot be sampled reports UNKNOWN
+    public static BrowserHeap sample(WebDriver driver) {
+        try {
+            DevTools devTools = devTools(driver);
+            if (devTools != null) {
+                return fromMetrics(devTools);
+            }
+            Object memory = ((JavascriptExecutor) driver).executeScript(MEMORY_SCRIPT);
+            if (memory instanceof List) {
+                List<?> values = (List<?>) memory;
+                return new BrowserHeap(((Number) values.get(0)).longValue(), ((Number) values.get(1)).longValue(),
+                        -1, -1, -1);
+            }
+        } catch (WebDriverException | ClassCastException e) {
+            // Reported as unknown
+        }
+        return UNKNOWN;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BrowserHeap fromMetrics(DevTools devTools) {
+        devTools.send(new Command<>("Performance.enable", Map.of(), Json.MAP_TYPE));
+        Map<String, Object> result = devTools.send(new Command<>("Performance.getMetrics", Map.of(), Json.MAP_TYPE));
+        Map<String, Long> metrics = new HashMap<>();
+        for (Object metric : (List<Object>) result.get("metrics")) {
+            Map<String, Object> entry = (Map<String, Object>) metric;
+            metrics.put((String) entry.get("name"), ((Number) entry.get("value")).longValue());
+        }
+        return new BrowserHeap(metrics.getOrDefault("JSHeapUsedSize", -1L),
+                metrics.getOrDefault("JSHeapTotalSize", -1L),
+                metrics.getOrDefault("Nodes", -1L),
+                metrics.getOrDefault("Documents", -1L),
+                metrics.getOrDefault("JSEventListeners", -1L));
+    }
+
+    // The session NetworkTap and PageEvents already opened, found below any decorators
+    private static DevTools devTools(WebDriver driver) {
+        while (!(driver instanceof HasDevTools) && driver instanceof WrapsDriver) {
+            driver = ((WrapsDriver) driver).getWrappedDriver();
+        }
+        if (!(driver instanceof HasDevTools)) {
+            return null;
+        }
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        return devTools;
+    }
+
+    public boolean isKnown() {
+        return usedBytes >= 0;
+    }
+
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getDocuments() {
+        return documents;
+    }
+
+    public long getListeners() {
+        return listeners;
+    }
+
+    // e.g. "JS heap 14.2/21.0 MB, 1180 nodes, 2 documents, 96 listeners"
+    @Override
+    public String toString() {
+        if (!isKnown()) {
+            return "JS heap unknown";
+        }
+        return String.format(Locale.ROOT, "JS heap %.1f/%.1f MB", SoakRun.megabytes(usedBytes), SoakRun.megabytes(totalBytes))
+                + (nodes < 0 ? "" : ", " + nodes + " nodes, " + documents + " documents, " + listeners + " listeners");
+    }
+}
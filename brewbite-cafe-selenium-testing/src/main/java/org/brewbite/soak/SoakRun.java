@@ -0,0 +1,242 @@
+package org.brewbite.soak;
+
+import org.brewbite.cases.CaseMatrix;
+import org.brewbite.cases.CaseResult;
+import org.brewbite.cases.TestCase;
+import org.brewbite.config.Environment;
+import org.brewbite.config.HarnessConfig;
+import org.brewbite.driver.WorkerDrivers;
+import org.brewbite.report.RollingLog;
+import org.brewbite.report.RunReport;
+import org.openqa.selenium.WebDriver;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the same cases over and over to find slow leaks, in the app as well
+ * as in the harness. Repeats for {@code brewbite.soak.iterations} rounds,
+ * for {@code brewbite.soak.duration} (e.g. {@code 2h}, {@code 45m} or
+ * {@code PT90M}), or until the first of the two runs out.
+ *
+ * The worker threads keep their browsers from one iteration to the next.
+ * After each iteration every browser's JS heap and DOM counts
+ * ({@link BrowserHeap}) and the JVM heap are sampled; a browser whose JS heap
+ * is above {@code brewbite.soak.heapLimitMb} is quit and replaced before the
+ * next iteration. Samples and test timings are streamed to rolling CSV files
+ * next to the run report, so nothing accumulates in memory however long
+ * the run; the summary at the end reports how fast both heaps grew.
+ */
+public final class SoakRun {
+
+    public static final String ITERATIONS_KEY = "brewbite.soak.iterations";
+    public static final String DURATION_KEY = "brewbite.soak.duration";
+    public static final String HEAP_LIMIT_KEY = "brewbite.soak.heapLimitMb";
+    public static final String ROLL_SIZE_KEY = "brewbite.soak.rollMb";
+    public static final String ROLL_FILES_KEY = "brewbite.soak.rollFiles";
+
+    private static final String HEADER = "iteration,finishedAt,wallMillis,passed,failed,jvmHeapUsedMb,jvmHeapAfterGcMb,"
+            + "environment,browser,jsHeapUsedMb,jsHeapTotalMb,nodes,documents,listeners,recycled";
+
+    private final long iterations;
+    private final Duration duration;
+    private final long heapLimitBytes;
+    private final long rollBytes;
+    private final int rollFiles;
+
+    SoakRun(long iterations, Duration duration, long heapLimitBytes, long rollBytes, int rollFiles) {
+        this.iterations = iterations;
+        this.duration = duration;
+        this.heapLimitBytes = heapLimitBytes;
+        this.rollBytes = rollBytes;
+        this.rollFiles = rollFiles;
+    }
+
+    // Soak settings from the config, or null if neither an iteration count nor a duration is set
+    public static SoakRun fromConfig(HarnessConfig config) {
+        int iterations = config.getInt(ITERATIONS_KEY, 0);
+        Duration duration = config.getDuration(DURATION_KEY, null);
+        if (iterations <= 0 && duration == null) {
+            return null;
+        }
+        return new SoakRun(Math.max(0, iterations), duration,
+                (long) config.getInt(HEAP_LIMIT_KEY, 256) << 20,
+                (long) config.getInt(ROLL_SIZE_KEY, 10) << 20,
+                config.getInt(ROLL_FILES_KEY, 10));
+    }
+
+    /**
+     * Repeats the cases on every environment of the matrix until the soak
+     * ends. Leaves the browsers leased; the caller closes the matrix.
+     */
+    public void run(CaseMatrix matrix, List<TestCase> cases) {
+        RunReport report = RunReport.shared();
+        RollingLog tests = report.streamTo(rollBytes, rollFiles);
+        RollingLog samples = new RollingLog(RunReport.shared().directory(),
+                report.fileStem() + "-soak", HEADER, rollBytes, rollFiles);
+        System.out.println("Soak run: " + this);
+
+        long deadline = duration == null ? Long.MAX_VALUE : System.nanoTime() + duration.toNanos();
+        Trend jvmTrend = new Trend();
+        Trend browserTrend = new Trend();
+        long passedTotal = 0;
+        long failedTotal = 0;
+        long recycledTotal = 0;
+        long iteration = 0;
+        try {
+            while ((iterations == 0 || iteration < iterations) && System.nanoTime() < deadline) {
+                iteration++;
+                long start = System.nanoTime();
+                Map<Environment, List<CaseResult>> results = matrix.runAll(cases);
+                long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                int passed = 0;
+                int failed = 0;
+                StringBuilder failures = new StringBuilder();
+                for (List<CaseResult> environmentResults : results.values()) {
+                    for (CaseResult result : environmentResults) {
+                        if (result.isPassed()) {
+                            passed++;
+                        } else {
+                            failed++;
+                            failures.append("\n  ").append(result.getTestCase()).append(" - ")
+                                    .append(result.getFailure().getMessage());
+                        }
+                    }
+                }
+                passedTotal += passed;
+                failedTotal += failed;
+
+                long jvmUsed = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+                long jvmAfterGc = heapAfterGc();
+                jvmTrend.add(iteration, jvmAfterGc < 0 ? jvmUsed : jvmAfterGc);
+                String prefix = iteration + "," + Instant.now() + "," + wallMillis + "," + passed + "," + failed + ","
+                        + mb(jvmUsed) + "," + (jvmAfterGc < 0 ? "" : mb(jvmAfterGc)) + ",";
+
+                long largestHeap = -1;
+                int recycled = 0;
+                StringBuilder browsers = new StringBuilder();
+                for (Environment environment : matrix.environments()) {
+                    WorkerDrivers drivers = matrix.engine(environment).drivers();
+                    int number = 0;
+                    for (WebDriver driver : drivers.drivers()) {
+                        number++;
+                        BrowserHeap heap = BrowserHeap.sample(driver);
+                        boolean recycle = heap.isKnown() && heap.getUsedBytes() > heapLimitBytes;
+                        if (recycle && drivers.recycle(driver)) {
+                            recycled++;
+                        }
+                        largestHeap = Math.max(largestHeap, heap.getUsedBytes());
+                        samples.append(prefix + environment.getName() + "," + number + ","
+                                + (heap.isKnown() ? mb(heap.getUsedBytes()) + "," + mb(heap.getTotalBytes()) : ",")
+                                + "," + count(heap.getNodes()) + "," + count(heap.getDocuments())
+                                + "," + count(heap.getListeners()) + "," + recycle);
+                        browsers.append("\n  ").append(environment.getName()).append('#').append(number).append(": ")
+                                .append(heap).append(recycle ? " - recycled" : "");
+                    }
+                }
+                if (largestHeap >= 0) {
+                    browserTrend.add(iteration, largestHeap);
+                }
+                recycledTotal += recycled;
+
+                // One println per iteration, like the per-case lines
+                System.out.println(String.format(Locale.ROOT, "Soak iteration %d: %d passed, %d failed in %d s;"
+                                + " JVM heap %.1f MB (%s MB after GC)", iteration, passed, failed,
+                        TimeUnit.MILLISECONDS.toSeconds(wallMillis), megabytes(jvmUsed),
+                        jvmAfterGc < 0 ? "?" : mb(jvmAfterGc)) + browsers + failures + "\n");
+            }
+        } finally {
+            samples.close();
+        }
+
+        System.out.println("Soak run: " + iteration + " iteration(s), " + passedTotal + " passed, " + failedTotal
+                + " failed, " + recycledTotal + " browser(s) recycled");
+        System.out.println("  JVM heap after GC: " + jvmTrend);
+        System.out.println("  Largest JS heap:   " + browserTrend);
+        System.out.println("  Samples: " + samples);
+        System.out.println("  Tests:   " + tests);
+    }
+
+    // Live heap as of the last collection of each pool; -1 if the collector does not report it
+    private static long heapAfterGc() {
+        long total = 0;
+        boolean reported = false;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+            if (usage != null) {
+                total += usage.getUsed();
+                reported = true;
+            }
+        }
+        return reported ? total : -1;
+    }
+
+    static double megabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static String mb(long bytes) {
+        return String.format(Locale.ROOT, "%.1f", megabytes(bytes));
+    }
+
+    private static String count(long value) {
+        return value < 0 ? "" : String.valueOf(value);
+    }
+
+    // e.g. "200 iterations or 2h, recycle browsers above 256 MB JS heap"
+    @Override
+    public String toString() {
+        String length = iterations > 0 && duration != null ? iterations + " iterations or " + duration
+                : iterations > 0 ? iterations + " iterations" : String.valueOf(duration);
+        return length + ", recycle browsers above " + (heapLimitBytes >> 20) + " MB JS heap";
+    }
+
+    /**
+     * Least-squares growth per iteration, kept as running sums so it costs
+     * the same after ten iterations as after ten thousand.
+     */
+    static final class Trend {
+        private long count;
+        private double sumX;
+        private double sumY;
+        private double sumXY;
+        private double sumXX;
+        private double first;
+        private double last;
+
+        void add(long x, double y) {
+            if (count == 0) {
+                first = y;
+            }
+            last = y;
+            count++;
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += (double) x * x;
+        }
+
+        double slope() {
+            double denominator = count * sumXX - sumX * sumX;
+            return count < 2 || denominator == 0 ? 0 : (count * sumXY - sumX * sumY) / denominator;
+        }
+
+        // e.g. "41.2 -> 44.9 MB, +0.19 MB per iteration"
+        @Override
+        public String toString() {
+            if (count == 0) {
+                return "not sampled";
+            }
+            return String.format(Locale.ROOT, "%.1f -> %.1f MB, %+.2f MB per iteration",
+                    megabytes((long) first), megabytes((long) last), megabytes((long) slope()));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.brewbite.tabs;
+
+import org.brewbite.pages.LandingPage;
+import org.brewbite.wait.WaitEngine;
+import org.openqa.selenium.JavascriptException;
+import java.time.Duration;
+
+/**
+ * One window of a {@link TabFanOut}, with its own {@link LandingPage}. All
+ * browser work goes through {@link #run}; element handles are only valid
+ * inside the block that looked them up or a later block of the same tab.
+ */
+public final class Tab {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    // Longest the load wait holds the command channel at a time
+    static final Duration LOAD_SLICE = Duration.ofMillis(200);
+
+    @FunctionalInterface
+    public interface Action<T> {
+        T apply(LandingPage page) throws Exception;
+    }
+
+    private final TabFanOut fanOut;
+    private final String handle;
+    private final String url;
+    private final LandingPage page;
+    private final WaitEngine loadWaits;
+    private boolean loaded;
+
+    Tab(TabFanOut fanOut, String handle, String url, LandingPage page, WaitEngine loadWaits) {
+        this.fanOut = fanOut;
+        this.handle = handle;
+        this.url = url;
+        this.page = page;
+        this.loadWaits = loadWaits;
+    }
+
+    /**
+     * Runs the action on this window while holding the browser's command
+     * channel. The session runs one command at a time, so while the action
+     * waits - e.g. with the page's {@code WaitEngine} for a scroll - no other
+     * window can be sent commands. Start the work in one block and wait for
+     * it in the next, so every window has started its scroll or animation
+     * before the first of them waits; those then run in the browser side by
+     * side, and the later waits return almost at once.
+     */
+    public <T> T run(Action<T> action) throws Exception {
+        awaitLoad();
+        return fanOut.onWindow(handle, () -> action.apply(page));
+    }
+
+    /*
+     * The window's page load was only started by TabFanOut.open. Waits in
+     * slices of LOAD_SLICE, letting go of the channel in between so windows
+     * that have loaded can send their commands meanwhile.
+     */
+    private void awaitLoad() throws Exception {
+        long deadline = System.nanoTime() + DEFAULT_TIMEOUT.toNanos();
+        while (!loaded) {
+            loaded = fanOut.onWindow(handle, () -> {
+                try {
+                    return loadWaits.untilLoaded(url);
+                } catch (JavascriptException e) {
+                    // The wait started on the blank document the load replaced; the next one runs on the page
+                    return false;
+                }
+            });
+            if (!loaded && System.nanoTime() > deadline) {
+                throw new IllegalStateException("Tab did not finish loading " + url + " within " + DEFAULT_TIMEOUT);
+            }
+        }
+    }
+
+    String handle() {
+        return handle;
+    }
+}
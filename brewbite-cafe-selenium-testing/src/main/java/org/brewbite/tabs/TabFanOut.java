@@ -0,0 +1,193 @@
+package org.brewbite.tabs;
+
+import org.brewbite.config.HarnessConfig;
+import org.brewbite.pages.LandingPage;
+import org.brewbite.report.TestRecorder;
+import org.brewbite.wait.WaitEngine;
+import org.brewbite.wait.WaitLog;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs independent sub-checks of one case side by side in extra windows of
+ * the case's own browser. A WebDriver session only has one command channel
+ * and one current window, so every driver call goes through
+ * {@link Tab#run}, which takes the channel and switches to its window.
+ * Between calls the channel is free for the other windows, while in the
+ * browser every window's page loads, scrolls and animates on its own. Each window works through the shared list of
+ * checks on its own thread.
+ *
+ * The windows show the page the browser is on, loading at the same time.
+ * They are separate windows rather than background tabs because Chrome
+ * pauses animation frames, and with them smooth scrolling, in hidden tabs.
+ * The original window is left untouched, so the case's page can still be
+ * reused by the next case. Closing the fan-out closes the extra windows.
+ */
+public final class TabFanOut implements AutoCloseable {
+
+    public static final String TABS_KEY = "brewbite.tabs";
+    public static final int DEFAULT_TABS = 3;
+
+    // A sub-check; returns the detail reported for it
+    @FunctionalInterface
+    public interface Check {
+        String run(Tab tab) throws Exception;
+    }
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final ExecutorService TAB_THREADS = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "tab-" + THREADS.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Starts the load after the command has returned, so opening the next window does not wait for it
+    private static final String NAVIGATE_SCRIPT = "var url = arguments[0]; setTimeout(function () { location.href = url; }, 0);";
+
+    private final WebDriver driver;
+    private final String originalHandle;
+    private final List<Tab> tabs = new ArrayList<>();
+    // Fair, so waiting windows take turns
+    private final ReentrantLock channel = new ReentrantLock(true);
+    private String currentHandle;
+
+    private TabFanOut(WebDriver driver, String originalHandle) {
+        this.driver = driver;
+        this.originalHandle = originalHandle;
+        this.currentHandle = originalHandle;
+    }
+
+    // Windows per fan-out from brewbite.tabs, at least one
+    public static int maxTabs() {
+        return Math.max(1, HarnessConfig.shared().getInt(TABS_KEY, DEFAULT_TABS));
+    }
+
+    /**
+     * Opens {@code count} windows on the page the browser currently shows,
+     * sized like the current window. The pages load in the background; each
+     * window waits for its own load before its first check.
+     */
+    public static TabFanOut open(WebDriver driver, int count) {
+        String originalHandle = driver.getWindowHandle();
+        String url = driver.getCurrentUrl();
+        Dimension size = driver.manage().window().getSize();
+
+        TabFanOut fanOut = new TabFanOut(driver, originalHandle);
+        try {
+            for (int i = 0; i < Math.max(1, count); i++) {
+                driver.switchTo().newWindow(WindowType.WINDOW);
+                String handle = driver.getWindowHandle();
+                fanOut.currentHandle = handle;
+                driver.manage().window().setSize(size);
+                ((JavascriptExecutor) driver).executeScript(NAVIGATE_SCRIPT, url);
+                fanOut.tabs.add(new Tab(fanOut, handle, url, new LandingPage(driver), new WaitEngine(driver, Tab.LOAD_SLICE)));
+            }
+        } catch (WebDriverException e) {
+            fanOut.close();
+            throw e;
+        }
+        return fanOut;
+    }
+
+    /**
+     * Runs every check and returns their details in the given order. All
+     * checks run even if some fail; failures are then reported together,
+     * the first as the cause.
+     */
+    public List<String> runAll(List<Check> checks) throws Exception {
+        ConcurrentLinkedQueue<Integer> pending = new ConcurrentLinkedQueue<>();
+        for (int i = 0; i < checks.size(); i++) {
+            pending.add(i);
+        }
+        String[] details = new String[checks.size()];
+        Throwable[] failures = new Throwable[checks.size()];
+
+        List<Future<Void>> workers = new ArrayList<>();
+        for (Tab tab : tabs.subList(0, Math.min(tabs.size(), checks.size()))) {
+            Callable<Void> worker = () -> {
+                for (Integer index = pending.poll(); index != null; index = pending.poll()) {
+                    try {
+                        details[index] = checks.get(index).run(tab);
+                    } catch (Exception | AssertionError e) {
+                        failures[index] = e;
+                    }
+                }
+                return null;
+            };
+            // Commands and waits from the window threads are charged to the case that fanned out
+            workers.add(TAB_THREADS.submit(TestRecorder.propagate(WaitLog.propagate(worker))));
+        }
+        for (Future<Void> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Tab worker failed", e.getCause());
+            }
+        }
+
+        List<String> messages = new ArrayList<>();
+        Throwable first = null;
+        for (Throwable failure : failures) {
+            if (failure != null) {
+                messages.add(failure.getMessage());
+                first = first == null ? failure : first;
+            }
+        }
+        if (first != null) {
+            throw new AssertionError(messages.size() + " of " + checks.size() + " sub-checks failed: "
+                    + String.join("; ", messages), first);
+        }
+        return List.of(details);
+    }
+
+    public int size() {
+        return tabs.size();
+    }
+
+    // Holds the command channel on the given window; only Tab.run calls this
+    <T> T onWindow(String handle, Callable<T> commands) throws Exception {
+        channel.lock();
+        try {
+            if (!handle.equals(currentHandle)) {
+                driver.switchTo().window(handle);
+                currentHandle = handle;
+            }
+            return commands.call();
+        } finally {
+            channel.unlock();
+        }
+    }
+
+    // Closes the extra windows and switches back to the original one
+    @Override
+    public void close() {
+        channel.lock();
+        try {
+            for (Tab tab : tabs) {
+                try {
+                    driver.switchTo().window(tab.handle()).close();
+                } catch (WebDriverException e) {
+                    // Already gone; the pool closes stray windows on release anyway
+                }
+            }
+            tabs.clear();
+            driver.switchTo().window(originalHandle);
+            currentHandle = originalHandle;
+        } finally {
+            channel.unlock();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package org.brewbite.wait;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import java.time.Duration;
+
+/**
+ * Event-driven replacement for fixed {@code Thread.sleep} calls. Every wait
+ * runs as a single asynchronous script that re-checks its condition on each
+ * animation frame and returns as soon as the condition holds, so a wait
+ * costs one WebDriver round trip and no more time than the page needs.
+ *
+ * Each wait is recorded with its latency in the calling thread's
+ * {@link WaitLog}.
+ */
+public class WaitEngine {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    // Same check the suites used in isElementInViewport(): the element's top edge is on screen
+    private static final String IN_VIEWPORT_CONDITION = "(rect.top >= 0 && rect.top <= window.innerHeight)";
+
+    // The scroll has gone where scrollIntoView would take it: the element's top edge at the top of the viewport,
+    // or the page at its bottom if it cannot scroll that far, give or take the height of a sticky header
+    private static final String AT_TOP_CONDITION =
+            "(Math.abs(window.scrollY - Math.min(window.scrollY + rect.top,"
+                    + " document.scrollingElement.scrollHeight - window.innerHeight))"
+                    + " <= (header ? header.getBoundingClientRect().height : 1))";
+
+    // Scroll position must be unchanged for this many consecutive frames to count as settled
+    private static final int SETTLED_FRAMES = 3;
+
+    // Calls check() once per animation frame until it returns non-null or the budget runs out.
+    // rAF is paired with a timer because occluded windows may stop delivering frames.
+    private static final String FRAME_LOOP =
+            "var timeout = arguments[0];" +
+                    "var done = arguments[arguments.length - 1];" +
+                    "var start = performance.now();" +
+                    "var nextFrame = function (cb) {" +
+                    "  var fired = false;" +
+                    "  var once = function () { if (!fired) { fired = true; cb(); } };" +
+                    "  requestAnimationFrame(once);" +
+                    "  setTimeout(once, 50);" +
+                    "};" +
+                    "var tick = function () {" +
+                    "  var result = check();" +
+                    "  if (result !== null) { done(result); return; }" +
+                    "  if (performance.now() - start > timeout) { done(timedOut()); return; }" +
+                    "  nextFrame(tick);" +
+                    "};" +
+                    "nextFrame(tick);";
+
+    private static final String SCROLL_SETTLED_SCRIPT =
+            "var need = arguments[1];" +
+                    "var lastX = window.scrollX, lastY = window.scrollY, stable = 0;" +
+                    "var check = function () {" +
+                    "  if (window.scrollX === lastX && window.scrollY === lastY) { stable++; }" +
+                    "  else { stable = 0; lastX = window.scrollX; lastY = window.scrollY; }" +
+                    "  return stable >= need ? true : null;" +
+                    "};" +
+                    "var timedOut = function () { return false; };" +
+                    FRAME_LOOP;
+
+    private static final String IN_VIEWPORT_SCRIPT = settledScript(IN_VIEWPORT_CONDITION);
+
+    private static final String AT_TOP_SCRIPT = settledScript(AT_TOP_CONDITION);
+
+    // Waits for the computed value to move away from 'from' and for any transition on the
+    // property to finish (transitionend, or no running CSS transition left on the element)
+    private static final String STYLE_CHANGE_SCRIPT =
+            "var elem = arguments[1], prop = arguments[2], from = arguments[3];" +
+                    "var ended = false;" +
+                    "var onEnd = function (e) { if (e.propertyName === prop) { ended = true; } };" +
+                    "elem.addEventListener('transitionend', onEnd);" +
+                    "var running = function () {" +
+                    "  if (!elem.getAnimations) { return !ended; }" +
+                    "  return elem.getAnimations().some(function (a) {" +
+                    "    return a.transitionProperty === prop && a.playState === 'running';" +
+                    "  });" +
+                    "};" +
+                    "var value = function () { return getComputedStyle(elem).getPropertyValue(prop); };" +
+                    "var finish = function (result) { elem.removeEventListener('transitionend', onEnd); return result; };" +
+                    "var check = function () {" +
+                    "  var current = value();" +
+                    "  if (current === from) { return null; }" +
+                    "  return ended || !running() ? finish(current) : null;" +
+                    "};" +
+                    "var timedOut = function () { return finish(value()); };" +
+                    FRAME_LOOP;
+
+    // No CSS transition or animation left running anywhere in the document
+    private static final String ANIMATIONS_SETTLED_SCRIPT =
+            "var check = function () {" +
+                    "  if (!document.getAnimations) { return true; }" +
+                    "  return document.getAnimations().every(function (a) { return a.playState !== 'running'; }) ? true : null;" +
+                    "};" +
+                    "var timedOut = function () { return false; };" +
+                    FRAME_LOOP;
+
+    // The document at the URL (ignoring the fragment) has finished loading
+    private static final String LOADED_SCRIPT =
+            "var url = arguments[1].split('#')[0];" +
+                    "var check = function () {" +
+                    "  return document.readyState === 'complete' && location.href.split('#')[0] === url ? true : null;" +
+                    "};" +
+                    "var timedOut = function () { return false; };" +
+                    FRAME_LOOP;
+
+    private static final String COMPUTED_STYLE_SCRIPT =
+            "return getComputedStyle(arguments[0]).getPropertyValue(arguments[1]);";
+
+    private static final String IS_IN_VIEWPORT_SCRIPT =
+            "var elem = arguments[0];" +
+                    "var rect = elem.getBoundingClientRect();" +
+                    "return " + IN_VIEWPORT_CONDITION + ";";
+
+    private static final String IS_AT_TOP_SCRIPT =
+            "var elem = arguments[0], header = arguments[1];" +
+                    "var rect = elem.getBoundingClientRect();" +
+                    "return " + AT_TOP_CONDITION + ";";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+
+    public WaitEngine(WebDriver driver) {
+        this(driver, DEFAULT_TIMEOUT);
+    }
+
+    public WaitEngine(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Waits until the window scroll position has stopped changing, e.g. after
+     * {@code scrollIntoView} or a smooth-scrolling navigation link.
+     */
+    public boolean scrollSettled() {
+        long start = System.nanoTime();
+        boolean settled = Boolean.TRUE.equals(await(SCROLL_SETTLED_SCRIPT, SETTLED_FRAMES));
+        record("scrollSettled", start, settled);
+        return settled;
+    }
+
+    /**
+     * Waits until the scroll has settled with the element's top edge in the
+     * viewport. Checking only once the scroll has stopped keeps a smooth
+     * scroll that merely passes the element, or starts next to it, from
+     * counting.
+     */
+    public boolean untilInViewport(WebElement element) {
+        long start = System.nanoTime();
+        boolean visible = Boolean.TRUE.equals(await(IN_VIEWPORT_SCRIPT, element, null, SETTLED_FRAMES));
+        record("inViewport", start, visible);
+        return visible;
+    }
+
+    /**
+     * Waits until the scroll has settled with the element at the top of the
+     * viewport, as a navigation link that scrolls to it leaves it: within
+     * the height of {@code header} (e.g. a sticky navigation bar, or
+     * {@code null}) of the top, or the page at its bottom if it is too short
+     * to scroll that far.
+     */
+    public boolean untilAtTop(WebElement element, WebElement header) {
+        long start = System.nanoTime();
+        boolean atTop = Boolean.TRUE.equals(await(AT_TOP_SCRIPT, element, header, SETTLED_FRAMES));
+        record("atTop", start, atTop);
+        return atTop;
+    }
+
+    /**
+     * Waits for a computed style property to change away from {@code from}
+     * and for its CSS transition to end. Returns the new value, or the
+     * unchanged value if the budget ran out, so callers can assert on it.
+     *
+     * @param from baseline read with {@link #computedStyle} before the interaction
+     */
+    public String untilStyleChanges(WebElement element, String property, String from) {
+        long start = System.nanoTime();
+        String value = (String) await(STYLE_CHANGE_SCRIPT, element, property, from);
+        record("styleChange(" + property + ")", start, !from.equals(value));
+        return value;
+    }
+
+    // Waits until every running CSS transition or animation on the page has finished
+    public boolean animationsSettled() {
+        long start = System.nanoTime();
+        boolean settled = Boolean.TRUE.equals(await(ANIMATIONS_SETTLED_SCRIPT));
+        record("animationsSettled", start, settled);
+        return settled;
+    }
+
+    /**
+     * Waits until the window shows {@code url} fully loaded, for a load that
+     * was started without waiting for it. If the wait starts on the document
+     * that is being replaced it fails with a {@code JavascriptException}
+     * when that document unloads; waiting again then waits on the new one.
+     */
+    public boolean untilLoaded(String url) {
+        long start = System.nanoTime();
+        boolean loaded = Boolean.TRUE.equals(await(LOADED_SCRIPT, url));
+        record("loaded", start, loaded);
+        return loaded;
+    }
+
+    public String computedStyle(WebElement element, String property) {
+        return (String) js().executeScript(COMPUTED_STYLE_SCRIPT, element, property);
+    }
+
+    public boolean isInViewport(WebElement element) {
+        return Boolean.TRUE.equals(js().executeScript(IS_IN_VIEWPORT_SCRIPT, element));
+    }
+
+    public boolean isAtTop(WebElement element, WebElement header) {
+        return Boolean.TRUE.equals(js().executeScript(IS_AT_TOP_SCRIPT, element, header));
+    }
+
+    // A FRAME_LOOP script that waits for the scroll to stop, then for the condition on 'rect' to hold
+    private static String settledScript(String condition) {
+        return "var elem = arguments[1], header = arguments[2], need = arguments[3];" +
+                "var lastX = window.scrollX, lastY = window.scrollY, stable = 0;" +
+                "var check = function () {" +
+                "  if (window.scrollX === lastX && window.scrollY === lastY) { stable++; }" +
+                "  else { stable = 0; lastX = window.scrollX; lastY = window.scrollY; }" +
+                "  if (stable < need) { return null; }" +
+                "  var rect = elem.getBoundingClientRect();" +
+                "  return " + condition + " ? true : null;" +
+                "};" +
+                "var timedOut = function () { return false; };" +
+                FRAME_LOOP;
+    }
+
+    // Runs a FRAME_LOOP script; the budget is always passed as arguments[0]
+    private Object await(String script, Object... args) {
+        Object[] scriptArgs = new Object[args.length + 1];
+        scriptArgs[0] = timeout.toMillis();
+        System.arraycopy(args, 0, scriptArgs, 1, args.length);
+        return js().executeAsyncScript(script, scriptArgs);
+    }
+
+    private void record(String name, long startNanos, boolean satisfied) {
+        WaitLog.current().record(new WaitLog.WaitRecord(name, System.nanoTime() - startNanos, satisfied));
+    }
+
+    private JavascriptExecutor js() {
+        return (JavascriptExecutor) driver;
+    }
+}
@@ -0,0 +1,105 @@
+package org.brewbite.wait;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-thread record of every wait performed by a {@link WaitEngine}. Test
+ * classes clear it before each TC and print {@link #summary()} afterwards to
+ * see how much of the TC was spent waiting. Threads working for a TC share
+ * its log through {@link #propagate}.
+ */
+public class WaitLog {
+
+    private static final ThreadLocal<WaitLog> CURRENT = ThreadLocal.withInitial(WaitLog::new);
+
+    // Written by every thread the log was propagated to
+    private final List<WaitRecord> records = new CopyOnWriteArrayList<>();
+
+    public static WaitLog current() {
+        return CURRENT.get();
+    }
+
+    // Wraps a task for another thread so the waits it performs land in the calling thread's log
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        WaitLog log = CURRENT.get();
+        return () -> {
+            WaitLog previous = CURRENT.get();
+            CURRENT.set(log);
+            try {
+                return task.call();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    void record(WaitRecord record) {
+        records.add(record);
+    }
+
+    public List<WaitRecord> records() {
+        return Collections.unmodifiableList(records);
+    }
+
+    public long totalMillis() {
+        long nanos = 0;
+        for (WaitRecord record : records) {
+            nanos += record.getNanos();
+        }
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    public void clear() {
+        records.clear();
+    }
+
+    // e.g. "3 waits, 412 ms [scrollSettled 48 ms, inViewport 310 ms, styleChange 54 ms]"
+    public String summary() {
+        StringBuilder details = new StringBuilder();
+        for (WaitRecord record : records) {
+            if (details.length() > 0) {
+                details.append(", ");
+            }
+            details.append(record);
+        }
+        return records.size() + " waits, " + totalMillis() + " ms [" + details + "]";
+    }
+
+    public static class WaitRecord {
+        private final String name;
+        private final long nanos;
+        private final boolean satisfied;
+
+        WaitRecord(String name, long nanos, boolean satisfied) {
+            this.name = name;
+            this.nanos = nanos;
+            this.satisfied = satisfied;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public long getMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(nanos);
+        }
+
+        // False when the wait ran out of time before its condition held
+        public boolean isSatisfied() {
+            return satisfied;
+        }
+
+        @Override
+        public String toString() {
+            return name + " " + getMillis() + " ms" + (satisfied ? "" : " (timed out)");
+        }
+    }
+}
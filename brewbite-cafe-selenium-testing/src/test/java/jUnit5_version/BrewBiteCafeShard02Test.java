@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 2 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard02Test extends LandingPageShard {
+
+    public BrewBiteCafeShard02Test() {
+        super(2);
+    }
+}
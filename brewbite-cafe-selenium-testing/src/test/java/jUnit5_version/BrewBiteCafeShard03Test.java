@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 3 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard03Test extends LandingPageShard {
+
+    public BrewBiteCafeShard03Test() {
+        super(3);
+    }
+}
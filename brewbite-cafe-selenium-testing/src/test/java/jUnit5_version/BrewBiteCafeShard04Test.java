@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 4 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard04Test extends LandingPageShard {
+
+    public BrewBiteCafeShard04Test() {
+        super(4);
+    }
+}
@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 5 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard05Test extends LandingPageShard {
+
+    public BrewBiteCafeShard05Test() {
+        super(5);
+    }
+}
@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 6 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard06Test extends LandingPageShard {
+
+    public BrewBiteCafeShard06Test() {
+        super(6);
+    }
+}
@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 7 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard07Test extends LandingPageShard {
+
+    public BrewBiteCafeShard07Test() {
+        super(7);
+    }
+}
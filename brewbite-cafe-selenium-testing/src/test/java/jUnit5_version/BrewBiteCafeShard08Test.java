@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 8 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard08Test extends LandingPageShard {
+
+    public BrewBiteCafeShard08Test() {
+        super(8);
+    }
+}
@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 9 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard09Test extends LandingPageShard {
+
+    public BrewBiteCafeShard09Test() {
+        super(9);
+    }
+}
@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 10 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard10Test extends LandingPageShard {
+
+    public BrewBiteCafeShard10Test() {
+        super(10);
+    }
+}
@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 11 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard11Test extends LandingPageShard {
+
+    public BrewBiteCafeShard11Test() {
+        super(11);
+    }
+}
@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 12 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard12Test extends LandingPageShard {
+
+    public BrewBiteCafeShard12Test() {
+        super(12);
+    }
+}
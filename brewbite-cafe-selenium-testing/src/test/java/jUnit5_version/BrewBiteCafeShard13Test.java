@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 13 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard13Test extends LandingPageShard {
+
+    public BrewBiteCafeShard13Test() {
+        super(13);
+    }
+}
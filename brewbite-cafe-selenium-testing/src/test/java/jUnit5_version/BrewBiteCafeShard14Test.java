@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 14 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard14Test extends LandingPageShard {
+
+    public BrewBiteCafeShard14Test() {
+        super(14);
+    }
+}
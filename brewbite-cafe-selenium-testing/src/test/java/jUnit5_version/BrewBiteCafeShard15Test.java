@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 15 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard15Test extends LandingPageShard {
+
+    public BrewBiteCafeShard15Test() {
+        super(15);
+    }
+}
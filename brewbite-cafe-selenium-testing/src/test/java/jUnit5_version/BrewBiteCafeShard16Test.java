@@ -0,0 +1,9 @@
+package jUnit5_version;
+
+/** Shard 16 of {@link LandingPageShard#SHARDS}; runs only in a forked run. */
+public class BrewBiteCafeShard16Test extends LandingPageShard {
+
+    public BrewBiteCafeShard16Test() {
+        super(16);
+    }
+}
@@ -0,0 +1,92 @@
+package jUnit5_version;
+
+import org.brewbite.cases.CaseEngine;
+import org.brewbite.cases.CaseMatrix;
+import org.brewbite.cases.LandingPageCases;
+import org.brewbite.cases.TestCase;
+import org.brewbite.driver.ForkSlot;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * JUnit 5 runner for TC-01 … TC-18, split into {@link #SHARDS} test classes
+ * so a forked run has work for every fork: surefire hands each fork whole
+ * classes, and shard {@code k} takes the cases whose index in
+ * {@link LandingPageCases#selected()} is {@code k - 1} modulo {@link #SHARDS}.
+ * Outside a forked run {@link BrewBiteCafeTest} runs every case and the other
+ * shards are empty. The cases themselves live in
+ * {@code org.brewbite.cases.LandingPageCases}; each one becomes a dynamic test
+ * executed by the shared {@link CaseEngine}. With several environments
+ * configured, each one becomes a container of its own.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.CONCURRENT) // Dynamic tests run in parallel when junit.jupiter.execution.parallel.enabled=true
+public abstract class LandingPageShard {
+
+    // One per core on the 16-core runners; forks beyond this many have no class left to run
+    public static final int SHARDS = 16;
+
+    private final List<TestCase> cases;
+    private CaseMatrix matrix;
+
+    protected LandingPageShard(int shard) {
+        this.cases = casesOf(shard);
+    }
+
+    static List<TestCase> casesOf(int shard) {
+        List<TestCase> selected = LandingPageCases.selected();
+        if (!ForkSlot.current().isForked()) {
+            return shard == 1 ? selected : new ArrayList<>();
+        }
+        // Split the unscheduled list, which is the same in every fork
+        List<TestCase> cases = new ArrayList<>();
+        for (int i = shard - 1; i < selected.size(); i += SHARDS) {
+            cases.add(selected.get(i));
+        }
+        return cases;
+    }
+
+    @BeforeAll
+    public void setUp() {
+        if (cases.isEmpty()) {
+            return;
+        }
+        // Set ChromeDriver path if needed (or use WebDriverManager)
+        // System.setProperty("webdriver.chrome.driver", "path/to/chromedriver");
+
+        // Each worker thread borrows its own warm browser from the shared pool on first use;
+        // every shard reports and schedules under the same suite name
+        matrix = CaseMatrix.forSuite(BrewBiteCafeTest.class.getName());
+    }
+
+    @TestFactory
+    public Stream<? extends DynamicNode> landingPageTests() {
+        if (matrix == null) {
+            return Stream.empty();
+        }
+        if (matrix.environments().size() == 1) {
+            return landingPageTests(matrix.engine(matrix.environments().get(0)));
+        }
+        return matrix.environments().stream()
+                .map(environment -> DynamicContainer.dynamicContainer(environment.toString(),
+                        landingPageTests(matrix.engine(environment))));
+    }
+
+    private Stream<DynamicTest> landingPageTests(CaseEngine engine) {
+        return engine.schedule(cases).stream()
+                .map(testCase -> DynamicTest.dynamicTest(testCase.getId() + " " + testCase.getName(),
+                        () -> engine.run(testCase).rethrow()));
+    }
+
+    @AfterAll
+    public void tearDown() {
+        if (matrix != null) {
+            matrix.close();
+            matrix = null;
+        }
+    }
+}
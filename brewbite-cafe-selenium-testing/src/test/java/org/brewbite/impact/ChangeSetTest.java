@@ -0,0 +1,177 @@
+package org.brewbite.impact;
+
+import org.brewbite.cases.TestCase;
+import org.junit.jupiter.api.Test;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.brewbite.locate.LandingPageLocators.MENU_ITEMS;
+import static org.brewbite.locate.LandingPageLocators.NAVBAR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ChangeSet#parse} and the selection built on it, fed with output
+ * recorded from {@code git diff --unified=0 --no-color --no-ext-diff}.
+ */
+public class ChangeSetTest {
+
+    private static final String COMPONENT = "selenium-testing-app/src/App.jsx";
+    private static final Path REPOSITORY = Paths.get("..");
+    private static final Path SOURCE = Paths.get(ImpactSelector.DEFAULT_SOURCE);
+
+    // Recorded with rename detection on, so the rename shows up as one entry
+    private static final String MIXED_DIFF = lines(
+            "diff --git a/logo.png b/logo.png",
+            "index f584f40..6bf43ff 100644",
+            "Binary files a/logo.png and b/logo.png differ",
+            "diff --git a/old.js b/renamed.js",
+            "similarity index 100%",
+            "rename from old.js",
+            "rename to renamed.js",
+            "diff --git a/src/menu.js b/src/menu.js",
+            "index b2f931a..7285da4 100644",
+            "--- a/src/menu.js",
+            "+++ b/src/menu.js",
+            "@@ -3,2 +2,0 @@ two",
+            "-three",
+            "-four",
+            "diff --git a/src/new.js b/src/new.js",
+            "new file mode 100644",
+            "index 0000000..80ce8d9",
+            "--- /dev/null",
+            "+++ b/src/new.js",
+            "@@ -0,0 +1,2 @@",
+            "+new1",
+            "+new2");
+
+    // The same rename as ChangeSet.against sees it, with --no-renames
+    private static final String RENAME_WITHOUT_DETECTION = lines(
+            "diff --git a/old.js b/old.js",
+            "deleted file mode 100644",
+            "index de98044..0000000",
+            "--- a/old.js",
+            "+++ /dev/null",
+            "@@ -1,3 +0,0 @@",
+            "-a",
+            "-b",
+            "-c",
+            "diff --git a/renamed.js b/renamed.js",
+            "new file mode 100644",
+            "index 0000000..de98044",
+            "--- /dev/null",
+            "+++ b/renamed.js",
+            "@@ -0,0 +1,3 @@",
+            "+a",
+            "+b",
+            "+c");
+
+    private static final String MENU_DATA_DIFF = lines(
+            "diff --git a/" + COMPONENT + " b/" + COMPONENT,
+            "index 382d71f..966079b 100644",
+            "--- a/" + COMPONENT,
+            "+++ b/" + COMPONENT,
+            "@@ -15 +15 @@ function App() {",
+            "-    { id: 1, name: 'Espresso', price: '$3.50', image: '☕' },",
+            "+    { id: 1, name: 'Espresso', price: '$3.75', image: '☕' },");
+
+    private static final String MENU_SECTION_DIFF = lines(
+            "diff --git a/ReadMe.md b/ReadMe.md",
+            "index 587be6b..b77b4eb 100644",
+            "--- a/ReadMe.md",
+            "+++ b/ReadMe.md",
+            "@@ -1,0 +2 @@ x",
+            "+y",
+            "diff --git a/" + COMPONENT + " b/" + COMPONENT,
+            "index 382d71f..7441b49 100644",
+            "--- a/" + COMPONENT,
+            "+++ b/" + COMPONENT,
+            "@@ -130,0 +131 @@ function App() {",
+            "+            {/* card */}");
+
+    @Test
+    public void pureDeletionMarksTheLinesOnEitherSide() {
+        assertEquals(List.of(2, 3), ChangeSet.parse(MIXED_DIFF).get("src/menu.js"));
+    }
+
+    @Test
+    public void deletionAtTopOfFileMarksOnlyTheFirstLine() {
+        Map<String, List<Integer>> changes = ChangeSet.parse(lines(
+                "diff --git a/a.js b/a.js",
+                "--- a/a.js",
+                "+++ b/a.js",
+                "@@ -1,2 +0,0 @@",
+                "-a",
+                "-b"));
+        assertEquals(List.of(1), changes.get("a.js"));
+    }
+
+    @Test
+    public void newFileIsChangedThroughout() {
+        assertEquals(List.of(1, 2), ChangeSet.parse(MIXED_DIFF).get("src/new.js"));
+    }
+
+    @Test
+    public void binaryFileHasNoLines() {
+        Map<String, List<Integer>> changes = ChangeSet.parse(MIXED_DIFF);
+        assertTrue(changes.containsKey("logo.png"));
+        assertEquals(List.of(), changes.get("logo.png"));
+    }
+
+    @Test
+    public void renameIsListedUnderItsNewName() {
+        Map<String, List<Integer>> changes = ChangeSet.parse(MIXED_DIFF);
+        assertEquals(List.of("logo.png", "renamed.js", "src/menu.js", "src/new.js"), List.copyOf(changes.keySet()));
+        assertEquals(List.of(), changes.get("renamed.js"));
+    }
+
+    @Test
+    public void renameWithoutDetectionIsADeletionAndANewFile() {
+        Map<String, List<Integer>> changes = ChangeSet.parse(RENAME_WITHOUT_DETECTION);
+        assertEquals(List.of(), changes.get("old.js"));
+        assertEquals(List.of(1, 2, 3), changes.get("renamed.js"));
+    }
+
+    @Test
+    public void lineOutsideEveryRegionRunsEverything() {
+        ImpactSelector selector = ImpactSelector.forChanges(changeSet(MENU_DATA_DIFF), "main", SOURCE);
+        assertNull(selector.getChangedRegions());
+        assertTrue(selector.toString().contains(COMPONENT + ":15 is outside the page sections"), selector.toString());
+    }
+
+    @Test
+    public void lineInsideARegionSelectsItsCases() {
+        ImpactSelector selector = ImpactSelector.forChanges(changeSet(MENU_SECTION_DIFF), "main", SOURCE);
+        assertEquals(Set.of("menu"), selector.getChangedRegions());
+
+        TestCase menu = TestCase.of("TC-A", "menu", "menu", context -> "").touching(MENU_ITEMS);
+        TestCase navbar = TestCase.of("TC-B", "navbar", "navbar", context -> "").touching(NAVBAR);
+        assertEquals(List.of(menu), selector.select(List.of(menu, navbar)));
+    }
+
+    @Test
+    public void documentationOnlySelectsNothing() {
+        ImpactSelector selector = ImpactSelector.forChanges(changeSet(lines(
+                "diff --git a/ReadMe.md b/ReadMe.md",
+                "--- a/ReadMe.md",
+                "+++ b/ReadMe.md",
+                "@@ -1,0 +2 @@ x",
+                "+y")), "main", SOURCE);
+        assertEquals(Set.of(), selector.getChangedRegions());
+
+        TestCase navbar = TestCase.of("TC-B", "navbar", "navbar", context -> "").touching(NAVBAR);
+        assertEquals(List.of(), selector.select(List.of(navbar)));
+    }
+
+    private static ChangeSet changeSet(String diff) {
+        return new ChangeSet(REPOSITORY, ChangeSet.parse(diff));
+    }
+
+    private static String lines(String... lines) {
+        return String.join("\n", lines) + "\n";
+    }
+}
@@ -0,0 +1,58 @@
+package org.brewbite.impact;
+
+import org.junit.jupiter.api.Test;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.brewbite.locate.LandingPageLocators.BODY;
+import static org.brewbite.locate.LandingPageLocators.CONTACT_EMAIL;
+import static org.brewbite.locate.LandingPageLocators.COPYRIGHT_TEXT;
+import static org.brewbite.locate.LandingPageLocators.MENU_ITEMS;
+import static org.brewbite.locate.LandingPageLocators.NAV_MENU;
+import static org.brewbite.locate.LandingPageLocators.RESERVE_BUTTON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link SourceRegions} over the real landing page component. The region
+ * boundaries follow App.jsx, so update them together with it.
+ */
+public class SourceRegionsTest {
+
+    private final SourceRegions regions = SourceRegions.load(Paths.get(ImpactSelector.DEFAULT_SOURCE));
+
+    @Test
+    public void regionsRunFromTheirCommentToTheirClosingTag() {
+        assertEquals(List.of("navbar", "home", "menu", "about", "contact", "footer"), regions.names());
+        assertEquals("navbar 25-64, home 66-108, menu 110-157, about 159-189, contact 191-220, footer 222-231",
+                regions.toString());
+    }
+
+    @Test
+    public void boundaryLinesBelongToTheirRegion() {
+        assertEquals("navbar", regions.regionOf(25));
+        assertEquals("navbar", regions.regionOf(64));
+        assertNull(regions.regionOf(65));
+        assertEquals("home", regions.regionOf(66));
+        assertEquals("footer", regions.regionOf(231));
+    }
+
+    @Test
+    public void linesOutsideThePageSectionsHaveNoRegion() {
+        // Imports, the menu data and the page wrapper
+        assertNull(regions.regionOf(1));
+        assertNull(regions.regionOf(15));
+        assertNull(regions.regionOf(24));
+        assertNull(regions.regionOf(232));
+    }
+
+    @Test
+    public void locatorsMapToTheRegionTheyAreDeclaredIn() {
+        assertEquals("navbar", regions.regionOf(NAV_MENU));
+        assertEquals("home", regions.regionOf(RESERVE_BUTTON));
+        assertEquals("menu", regions.regionOf(MENU_ITEMS));
+        assertEquals("contact", regions.regionOf(CONTACT_EMAIL));
+        assertEquals("footer", regions.regionOf(COPYRIGHT_TEXT));
+        assertNull(regions.regionOf(BODY));
+    }
+}
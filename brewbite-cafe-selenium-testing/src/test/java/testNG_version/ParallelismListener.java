@@ -0,0 +1,44 @@
+package testNG_version;
+
+import org.brewbite.config.Environment;
+import org.brewbite.config.HarnessConfig;
+import org.brewbite.driver.DriverPool;
+import org.brewbite.driver.WorkerDrivers;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import java.util.List;
+
+/**
+ * Applies thread counts from the harness config to testng.xml before the
+ * suite starts, so {@code brewbite.testng.threads} (threads per {@code <test>}
+ * group, default {@code brewbite.workers}) can be tuned from the command line.
+ * All {@code <test>} groups run at once, and every thread keeps a browser
+ * per environment until the suite ends, so unless {@code brewbite.pool.size}
+ * is given the browser pool is sized for groups x threads x environments.
+ */
+public class ParallelismListener implements IAlterSuiteListener {
+
+    public static final String THREADS_PROPERTY = "brewbite.testng.threads";
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        HarnessConfig config = HarnessConfig.shared();
+        int threads = Math.max(1, config.getInt(THREADS_PROPERTY, WorkerDrivers.workerCount()));
+
+        int browsers = 0;
+        for (XmlSuite suite : suites) {
+            suite.setThreadCount(Math.max(1, suite.getTests().size()));
+            for (XmlTest test : suite.getTests()) {
+                test.setThreadCount(threads);
+            }
+            browsers = Math.max(browsers, suite.getTests().size() * threads);
+        }
+
+        // Must happen before the first DriverPool.shared() call, which reads the size once
+        // Counted from the names alone; resolving the environments would start the static site server this early
+        browsers *= Math.max(1, config.getList(Environment.ENVIRONMENTS_KEY).size());
+        DriverPool.requireSessions(browsers);
+        System.out.println("TestNG: " + threads + " thread(s) per test group, " + browsers + " browser(s) needed");
+    }
+}